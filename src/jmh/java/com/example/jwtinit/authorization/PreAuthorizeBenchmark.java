@@ -0,0 +1,72 @@
+package com.example.jwtinit.authorization;
+
+import com.example.jwtinit.controller.UserController;
+import com.example.jwtinit.jwt.AuthorityRegistry;
+import com.example.jwtinit.jwt.JwtAuthenticationToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// UserController#getAdminUserInfo (hasAnyRole('ADMIN')) 의 @PreAuthorize 판단 비용 비교
+// spel: 기본 PreAuthorizeAuthorizationManager (매 호출마다 SpEL 평가 컨텍스트 생성 + 평가)
+// compiled: CompiledPreAuthorizeAuthorizationManager (결정 표 조회 + 권한 목록 별로 기억한 결정)
+// ./gradlew jmh 실행
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PreAuthorizeBenchmark {
+
+    private PreAuthorizeAuthorizationManager spelAuthorizationManager;
+    private CompiledPreAuthorizeAuthorizationManager compiledAuthorizationManager;
+
+    private Supplier<Authentication> authentication;
+    private MethodInvocation methodInvocation;
+
+    @Setup
+    public void setUp() throws Exception {
+
+        this.spelAuthorizationManager = new PreAuthorizeAuthorizationManager();
+        this.compiledAuthorizationManager = new CompiledPreAuthorizeAuthorizationManager(new PreAuthorizeAuthorizationManager(), 256);
+
+        // JwtFilter 가 만드는 것과 같은 인증 정보 (공유 권한 목록)
+        Authentication token = new JwtAuthenticationToken("token-id", "admin",
+                new AuthorityRegistry(16).resolve("ROLE_USER,ROLE_ADMIN"), Instant.now(), Instant.now().plusSeconds(3600));
+        this.authentication = () -> token;
+
+        this.methodInvocation = new SimpleMethodInvocation(new UserController(null, null, new ObjectMapper()),
+                UserController.class.getMethod("getAdminUserInfo", String.class), "admin");
+
+        compiledAuthorizationManager.precompile(methodInvocation.getMethod(), UserController.class);
+    }
+
+    @Benchmark
+    public AuthorizationDecision spel() {
+        return spelAuthorizationManager.check(authentication, methodInvocation);
+    }
+
+    @Benchmark
+    public AuthorizationDecision compiled() {
+        return compiledAuthorizationManager.check(authentication, methodInvocation);
+    }
+
+}
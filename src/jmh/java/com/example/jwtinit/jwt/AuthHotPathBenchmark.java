@@ -0,0 +1,117 @@
+package com.example.jwtinit.jwt;
+
+import com.example.jwtinit.util.SecurityUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 인증 hot path (요청마다 실행되는 부분) 벤치마크
+// 권한 수 (authorityCount) 와 유저명 길이 (usernameLength) 로 토큰 크기를 바꿔가며 측정
+// ./gradlew jmh -Pjmh.includes=AuthHotPathBenchmark
+//      Throughput (ops/us), AverageTime (us/op), gc.alloc.rate.norm (B/op) 를 이전 결과 (build/results/jmh/results.json) 와 비교
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthHotPathBenchmark {
+
+    @Param({"1", "4", "16"})
+    private int authorityCount;
+
+    @Param({"8", "64"})
+    private int usernameLength;
+
+    private TokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+    private Claims claims;
+
+    @Setup
+    public void setUp() throws Exception {
+
+        String secret = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded());
+        this.tokenProvider = new TokenProvider(secret, 3600);
+        this.tokenProvider.afterPropertiesSet();
+
+        this.authentication = new UsernamePasswordAuthenticationToken(username(usernameLength), "", authorities(authorityCount));
+        this.token = tokenProvider.createToken(authentication);
+        this.claims = tokenProvider.parseToken(token).getClaims();
+
+        SecurityContextHolder.getContext().setAuthentication(tokenProvider.getAuthentication(claims));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public String createToken() {
+        return tokenProvider.createToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    // 서명 검증 + Authentication 생성
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+
+    // 이미 검증된 Claims 로 Authentication 생성 (JwtFilter 경로)
+    @Benchmark
+    public Authentication getAuthenticationFromClaims() {
+        return tokenProvider.getAuthentication(claims);
+    }
+
+    @Benchmark
+    public Optional<String> getCurrUsername() {
+        return SecurityUtil.getCurrUsername();
+    }
+
+    static String username(int length) {
+        StringBuilder username = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            username.append((char) ('a' + i % 26));
+        }
+        return username.toString();
+    }
+
+    static List<GrantedAuthority> authorities(int count) {
+        List<GrantedAuthority> authorities = new ArrayList<>(count);
+        authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+        for (int i = 1; i < count; i++) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_PERMISSION_" + i));
+        }
+        return authorities;
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.example.jwtinit.jwt;
+
+import com.example.jwtinit.metrics.AuthMetrics;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import java.util.concurrent.TimeUnit;
+
+// JwtFilter.doFilter() 벤치마크 (Mock 서블릿 객체 사용, 로그 출력 제외)
+// verifiedTokenCache: 검증 결과 캐시 사용 여부 (VerifiedTokenCache)
+// ./gradlew jmh -Pjmh.includes=JwtFilterBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    @Param({"1", "4", "16"})
+    private int authorityCount;
+
+    @Param({"false", "true"})
+    private boolean verifiedTokenCache;
+
+    private JwtFilter jwtFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private final FilterChain chain = (request, response) -> { };
+
+    @Setup
+    public void setUp() throws Exception {
+
+        String secret = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded());
+        TokenProvider tokenProvider = new TokenProvider(secret, 3600);
+        tokenProvider.afterPropertiesSet();
+
+        // 인증 이벤트 로그는 측정에서 제외 (sample-rate 를 충분히 크게)
+        MockEnvironment environment = new MockEnvironment();
+        for (AuthEventType type : AuthEventType.values()) {
+            environment.setProperty("auth-event.log." + type.getKey() + ".sample-rate", String.valueOf(Integer.MAX_VALUE));
+        }
+
+        VerifiedTokenCache cache = new VerifiedTokenCache(verifiedTokenCache, 10_000, 300);
+        TokenRevocationList tokenRevocationList = new TokenRevocationList(100_000, 0.01);
+
+        this.jwtFilter = new JwtFilter(tokenProvider, cache, new AuthEventLogger(environment), tokenRevocationList,
+                new AuthMetrics(new SimpleMeterRegistry(), cache, tokenRevocationList));
+
+        String token = tokenProvider.createToken(new UsernamePasswordAuthenticationToken(
+                AuthHotPathBenchmark.username(8), "", AuthHotPathBenchmark.authorities(authorityCount)));
+
+        this.request = new MockHttpServletRequest("GET", "/api/user");
+        this.request.addHeader(JwtFilter.AUTHORIZATION_HEADER, JwtFilter.TOKEN_TYPE + token);
+        this.response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        try {
+            jwtFilter.doFilter(request, response, chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+}
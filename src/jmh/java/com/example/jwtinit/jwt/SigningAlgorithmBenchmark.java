@@ -0,0 +1,66 @@
+package com.example.jwtinit.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+// 서명 알고리즘별 토큰 발행 (서명), 검증 비용 비교
+// 실제 토큰 형태 (kid 헤더, sub, auth, jti, iat, exp) 그대로 TokenProvider.createToken() / parseToken() 측정
+// ./gradlew jmh -Pjmh.includes=SigningAlgorithmBenchmark
+//      RSA 는 서명이 검증보다 훨씬 비싸고, ECDSA 는 서명이 검증보다 싸다
+//      -> 발행 서버 (로그인) 와 검증 서버 (모든 API 요청) 를 나눠서 늘릴 때 참고
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SigningAlgorithmBenchmark {
+
+    @Param({"HS512", "RS256", "ES256"})
+    private String algorithm;
+
+    private TokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+
+        this.tokenProvider = new TokenProvider("", 3600);
+        this.tokenProvider.afterPropertiesSet();
+
+        SigningKey signingKey = SigningKeyRingLoader.generate("bench", SignatureAlgorithm.forName(algorithm));
+        this.tokenProvider.setKeyRing(new SigningKeyRing(Collections.singletonMap("bench", signingKey), "bench", null));
+
+        this.authentication = new UsernamePasswordAuthenticationToken("user", "",
+                AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_ADMIN"));
+        this.token = tokenProvider.createToken(authentication);
+    }
+
+    @Benchmark
+    public String sign() {
+        return tokenProvider.createToken(authentication);
+    }
+
+    @Benchmark
+    public TokenValidationResult verify() {
+        return tokenProvider.parseToken(token);
+    }
+
+}
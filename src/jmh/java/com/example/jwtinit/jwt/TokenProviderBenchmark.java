@@ -0,0 +1,78 @@
+package com.example.jwtinit.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 JwtParser 를 새로 생성하는 방식 (기존) 과 afterPropertiesSet() 에서 만든 JwtParser 를 공유하는 방식 비교
+// ./gradlew jmh 실행 후 gc.alloc.rate.norm (B/op) 로 요청 당 할당량 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenProviderBenchmark {
+
+    private TokenProvider tokenProvider;
+    private Key key;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        String secret = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded());
+
+        this.tokenProvider = new TokenProvider(secret, 3600);
+        this.tokenProvider.afterPropertiesSet();
+        this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+
+        this.authentication = new UsernamePasswordAuthenticationToken("user", "",
+                AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_ADMIN"));
+        this.token = tokenProvider.createToken(authentication);
+    }
+
+    @Benchmark
+    public Claims parsePerCallParser() {
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public TokenValidationResult parseSharedParser() {
+        return tokenProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public String createPerCallBuilder() {
+        return Jwts.builder()
+                .setSubject(authentication.getName())
+                .claim("auth", "ROLE_USER,ROLE_ADMIN")
+                .signWith(key, SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    @Benchmark
+    public String createSharedComponents() {
+        return tokenProvider.createToken(authentication);
+    }
+
+}
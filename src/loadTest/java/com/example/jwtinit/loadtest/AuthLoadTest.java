@@ -0,0 +1,267 @@
+package com.example.jwtinit.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertTrue;
+
+// 부하 테스트: 내장 서버 (H2 in-memory) 를 띄우고 실제 HTTP 요청으로 아래 비율의 요청을 섞어서 보냄
+//      POST /api/signup 5%, POST /api/authenticate 15%, GET /api/user 60%, GET /api/user/{username} (관리자) 20%
+// ./gradlew loadTest [-PloadTest.threads=16 -PloadTest.durationSeconds=30 -PloadTest.warmupSeconds=5]
+//
+// 결과 (build/generated-snippets/load-test, REST Docs 스니펫과 같은 위치)
+//      load-test.json: 엔드포인트별 요청 수, 오류 수, 처리량, p50/p99/p999/max (ms)
+//      <endpoint>.hgrm: 전체 백분위 분포
+//      load-test.adoc: 문서 (index.adoc) 에 포함되는 표
+//
+// 워커는 응답을 받은 뒤 다음 요청을 보내는 closed-loop 방식
+//      -> 서버가 멈춘 동안 요청을 보내지 않으므로 (coordinated omission) 꼬리 지연이 실제보다 낮게 나올 수 있음, 버전 간 비교 용도로 사용
+@RunWith(SpringRunner.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.defer-datasource-initialization=true",
+        "jwt.token-validity-in-seconds=3600",
+        "login.rate-limit.enabled=false" // 같은 IP 에서 반복 로그인
+})
+public class AuthLoadTest {
+
+    private static final int THREADS = Integer.getInteger("loadTest.threads", 16);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadTest.durationSeconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadTest.warmupSeconds", 5);
+    private static final Path OUTPUT_DIR = Paths.get(System.getProperty("loadTest.outputDir", "build/generated-snippets/load-test"));
+
+    // 미리 가입시켜 두는 유저 수 (authenticate, /api/user 에 사용)
+    private static final int USERS = 32;
+    private static final String PASSWORD = "load-test-password";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final AtomicInteger signupSequence = new AtomicInteger();
+
+    private final EndpointStats signup = new EndpointStats("POST /api/signup");
+    private final EndpointStats authenticate = new EndpointStats("POST /api/authenticate");
+    private final EndpointStats user = new EndpointStats("GET /api/user");
+    private final EndpointStats adminUser = new EndpointStats("GET /api/user/{username}");
+
+    @LocalServerPort
+    private int port;
+
+    private volatile boolean running = true;
+
+    // 설정 파일 없이 실행할 수 있도록 테스트마다 새 secret 생성
+    @DynamicPropertySource
+    static void jwtProperties(DynamicPropertyRegistry registry) {
+        registry.add("jwt.secret", () -> Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded()));
+    }
+
+    @Test
+    public void run() throws Exception {
+
+        String adminToken = login("admin", "admin");
+
+        List<String> usernames = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            String username = "load-user-" + i;
+            signup(username);
+            usernames.add(username);
+            tokens.add(login(username, PASSWORD));
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch done = new CountDownLatch(THREADS);
+
+        for (int i = 0; i < THREADS; i++) {
+            executorService.execute(() -> {
+                try {
+                    while (running) {
+                        next(usernames, tokens, adminToken);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        TimeUnit.SECONDS.sleep(WARMUP_SECONDS);
+        for (EndpointStats stats : endpoints()) {
+            stats.reset();
+        }
+
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(DURATION_SECONDS);
+        running = false;
+        done.await();
+        double measuredSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        executorService.shutdown();
+
+        writeResults(measuredSeconds);
+
+        for (EndpointStats stats : endpoints()) {
+            assertTrue(stats.getName() + " 요청이 없습니다.", stats.getCount() > 0);
+        }
+    }
+
+    // 요청 한 건 (비율에 따라 선택)
+    private void next(List<String> usernames, List<String> tokens, String adminToken) {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(usernames.size());
+        int dice = random.nextInt(100);
+
+        if(dice < 5) {
+            String username = "load-" + signupSequence.incrementAndGet();
+            send(signup, post("/api/signup", userJson(username)));
+        }else if(dice < 20) {
+            send(authenticate, post("/api/authenticate", loginJson(usernames.get(index), PASSWORD)));
+        }else if(dice < 80) {
+            // GET /api/user 는 @RequestBody UserDto 를 받으므로 body 필요
+            send(user, HttpRequest.newBuilder(uri("/api/user"))
+                    .header("Authorization", "Bearer " + tokens.get(index))
+                    .header("Content-Type", "application/json")
+                    .method("GET", HttpRequest.BodyPublishers.ofString(userJson(usernames.get(index))))
+                    .build());
+        }else {
+            send(adminUser, HttpRequest.newBuilder(uri("/api/user/" + usernames.get(index)))
+                    .header("Authorization", "Bearer " + adminToken)
+                    .GET()
+                    .build());
+        }
+    }
+
+    private void send(EndpointStats stats, HttpRequest request) {
+
+        long start = System.nanoTime();
+        boolean success;
+
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() == 200;
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+            return;
+        }
+
+        stats.record(System.nanoTime() - start, success);
+    }
+
+    private void signup(String username) throws Exception {
+        HttpResponse<String> response = httpClient.send(post("/api/signup", userJson(username)), HttpResponse.BodyHandlers.ofString());
+        if(response.statusCode() != 200) {
+            throw new IllegalStateException("signup 실패: " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    private String login(String username, String password) throws Exception {
+        HttpResponse<String> response = httpClient.send(post("/api/authenticate", loginJson(username, password)), HttpResponse.BodyHandlers.ofString());
+        if(response.statusCode() != 200) {
+            throw new IllegalStateException("authenticate 실패: " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body()).get("token").asText();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private String userJson(String username) {
+        return "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\",\"nickname\":\"" + username + "\"}";
+    }
+
+    private String loginJson(String username, String password) {
+        return "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}";
+    }
+
+    private List<EndpointStats> endpoints() {
+        return List.of(signup, authenticate, user, adminUser);
+    }
+
+    // JSON, .hgrm, adoc 표 출력
+    private void writeResults(double measuredSeconds) throws IOException {
+
+        Files.createDirectories(OUTPUT_DIR);
+
+        List<Map<String, Object>> summaries = new ArrayList<>();
+        for (EndpointStats stats : endpoints()) {
+            summaries.add(stats.summary(measuredSeconds));
+
+            String fileName = stats.getName().replaceAll("[^A-Za-z0-9]+", "-").replaceAll("^-|-$", "").toLowerCase() + ".hgrm";
+            try (PrintStream printStream = new PrintStream(OUTPUT_DIR.resolve(fileName).toFile(), StandardCharsets.UTF_8)) {
+                stats.writePercentileDistribution(printStream);
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("threads", THREADS);
+        result.put("warmupSeconds", WARMUP_SECONDS);
+        result.put("measuredSeconds", Math.round(measuredSeconds * 1000) / 1000.0);
+        result.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        result.put("javaVersion", System.getProperty("java.version"));
+        result.put("endpoints", summaries);
+
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(OUTPUT_DIR.resolve("load-test.json").toFile(), result);
+
+        StringBuilder adoc = new StringBuilder();
+        adoc.append(".Load test (threads: ").append(THREADS).append(", ").append(DURATION_SECONDS).append(" s)\n");
+        adoc.append("|===\n|Endpoint |Requests |Errors |Throughput (/s) |p50 (ms) |p99 (ms) |p99.9 (ms) |Max (ms)\n\n");
+        for (Map<String, Object> summary : summaries) {
+            adoc.append('|').append(String.valueOf(summary.get("endpoint")).replace("{", "\\{")) // {username} 이 adoc 속성으로 해석되지 않도록
+                    .append(" |").append(summary.get("count"))
+                    .append(" |").append(summary.get("errors"))
+                    .append(" |").append(summary.get("throughputPerSecond"))
+                    .append(" |").append(summary.get("p50Millis"))
+                    .append(" |").append(summary.get("p99Millis"))
+                    .append(" |").append(summary.get("p999Millis"))
+                    .append(" |").append(summary.get("maxMillis"))
+                    .append('\n');
+        }
+        adoc.append("|===\n");
+
+        Files.write(OUTPUT_DIR.resolve("load-test.adoc"), adoc.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.example.jwtinit.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 엔드포인트별 응답 시간 (HdrHistogram, ns 단위) 과 요청/오류 수
+// 워커 스레드들이 동시에 기록하므로 ConcurrentHistogram 사용
+public class EndpointStats {
+
+    // 1 us ~ 60 s, 유효숫자 3자리
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final String name;
+    private final Histogram histogram = new ConcurrentHistogram(TimeUnit.MICROSECONDS.toNanos(1), HIGHEST_TRACKABLE_NANOS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    public void record(long elapsedNanos, boolean success) {
+        histogram.recordValue(Math.min(Math.max(elapsedNanos, 1000), HIGHEST_TRACKABLE_NANOS));
+        if(!success) {
+            errors.increment();
+        }
+    }
+
+    // 워밍업 구간 기록 삭제
+    public void reset() {
+        histogram.reset();
+        errors.reset();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    // JSON 출력용 요약
+    public Map<String, Object> summary(double measuredSeconds) {
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("endpoint", name);
+        summary.put("count", histogram.getTotalCount());
+        summary.put("errors", errors.sum());
+        summary.put("throughputPerSecond", round(histogram.getTotalCount() / measuredSeconds));
+        summary.put("p50Millis", millis(histogram.getValueAtPercentile(50)));
+        summary.put("p99Millis", millis(histogram.getValueAtPercentile(99)));
+        summary.put("p999Millis", millis(histogram.getValueAtPercentile(99.9)));
+        summary.put("maxMillis", millis(histogram.getMaxValue()));
+        summary.put("meanMillis", millis((long) histogram.getMean()));
+
+        return summary;
+    }
+
+    // 전체 백분위 분포 (.hgrm, HdrHistogram 도구로 그래프 생성 가능), ms 단위
+    public void writePercentileDistribution(PrintStream printStream) {
+        histogram.outputPercentileDistribution(printStream, 1_000_000.0);
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+}
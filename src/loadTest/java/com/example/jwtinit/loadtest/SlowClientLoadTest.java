@@ -0,0 +1,250 @@
+package com.example.jwtinit.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+
+// 느린 클라이언트 부하 테스트: 요청 body 를 천천히 보내는 연결 N 개가 요청 스레드를 점유하는 동안
+// 빠른 요청 (GET /actuator/health) 의 지연과 서버의 스레드 수, 힙 사용량을 측정
+// ./gradlew loadTest --tests '*SlowClientLoadTest' [-PloadTest.virtualThreads=true -PloadTest.slowClients=1000 -PloadTest.holdSeconds=10]
+//      플랫폼 스레드 (기본) / 가상 스레드 (app.virtual-threads.enabled, VirtualThreadConfig) 를 각각 실행해서 비교
+//
+// 느린 클라이언트: POST /api/refresh 의 헤더를 보낸 뒤 body 를 holdSeconds 동안 나눠서 보냄
+//      컨트롤러가 body 를 읽는 동안 요청 스레드가 블로킹됨 (플랫폼 스레드 모드에서는 server.tomcat.threads.max 개까지만 동시 처리)
+//
+// 결과 (build/generated-snippets/load-test/slow-clients-<platform|virtual>.json)
+//      probe: 빠른 요청 수, 실패 (2초 timeout 포함) 수, p50/p99/max (ms)
+//      slowClients: 연결 수, 응답 받은 수, 전체 완료 시간
+//      peakThreads, peakHeapUsedMB: 측정 중 JVM 의 최대 (플랫폼) 스레드 수, 최대 힙 사용량 (클라이언트 포함 같은 JVM)
+//
+// JDK 21 + Tomcat 9 에서는 body 읽기가 캐리어 스레드를 붙잡으므로 (VirtualThreadConfig 의 pinning 참고)
+// 가상 스레드 모드에서도 peakThreads 가 느린 클라이언트 수 (최대 256) 만큼 늘어남, 1 CPU 에서 400 연결 / 6초 기준
+//      platform: probe p50 2003 ms (2초 timeout 4/7), peakThreads 223
+//      virtual:  probe p50  128 ms (2초 timeout 3/11), peakThreads 280
+@RunWith(SpringRunner.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:slowclient;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.defer-datasource-initialization=true",
+        "management.endpoints.web.exposure.include=health"
+})
+public class SlowClientLoadTest {
+
+    private static final boolean VIRTUAL_THREADS = Boolean.getBoolean("loadTest.virtualThreads");
+    private static final int SLOW_CLIENTS = Integer.getInteger("loadTest.slowClients", 1000);
+    private static final int HOLD_SECONDS = Integer.getInteger("loadTest.holdSeconds", 10);
+    private static final Path OUTPUT_DIR = Paths.get(System.getProperty("loadTest.outputDir", "build/generated-snippets/load-test"));
+
+    private static final int PROBE_INTERVAL_MILLIS = 50;
+    private static final int PROBE_TIMEOUT_MILLIS = 2000;
+    private static final int TRICKLE_INTERVAL_MILLIS = 250;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final EndpointStats probe = new EndpointStats("GET /actuator/health");
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+
+    @LocalServerPort
+    private int port;
+
+    private volatile boolean running = true;
+    private volatile long peakHeapUsed;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("jwt.secret", () -> Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded()));
+        registry.add("app.virtual-threads.enabled", () -> String.valueOf(VIRTUAL_THREADS));
+    }
+
+    @Test
+    public void run() throws Exception {
+
+        // 기동 직후 상태에서 측정 시작
+        sendProbe();
+        probe.reset();
+        threadMXBean.resetPeakThreadCount();
+
+        Thread prober = new Thread(this::probeLoop, "slow-client-prober");
+        prober.start();
+
+        long start = System.nanoTime();
+
+        List<Socket> sockets = new ArrayList<>(SLOW_CLIENTS);
+        List<byte[]> bodies = new ArrayList<>(SLOW_CLIENTS);
+        try {
+            for (int i = 0; i < SLOW_CLIENTS; i++) {
+                byte[] body = ("{\"refreshToken\":\"slow-client-" + i + "\"}").getBytes(StandardCharsets.UTF_8);
+                Socket socket = new Socket();
+                socket.connect(new InetSocketAddress("localhost", port), 5000);
+                socket.setSoTimeout((HOLD_SECONDS + 30) * 1000);
+                socket.getOutputStream().write(("POST /api/refresh HTTP/1.1\r\n"
+                        + "Host: localhost:" + port + "\r\n"
+                        + "Content-Type: application/json\r\n"
+                        + "Content-Length: " + body.length + "\r\n"
+                        + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                sockets.add(socket);
+                bodies.add(body);
+            }
+
+            trickle(sockets, bodies);
+
+            int responses = 0;
+            for (Socket socket : sockets) {
+                if(readStatusLine(socket) != null) {
+                    responses++;
+                }
+            }
+            double completedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            running = false;
+            prober.join();
+
+            writeResults(responses, completedSeconds);
+
+            assertTrue("빠른 요청이 없습니다.", probe.getCount() > 0);
+            assertTrue("느린 클라이언트가 응답을 받지 못했습니다.", responses > 0);
+
+        } finally {
+            running = false;
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+
+    // body 를 HOLD_SECONDS 동안 나눠서 전송 (마지막 바이트는 HOLD_SECONDS 가 지난 뒤)
+    private void trickle(List<Socket> sockets, List<byte[]> bodies) throws IOException, InterruptedException {
+
+        int ticks = Math.max(1, (int) (TimeUnit.SECONDS.toMillis(HOLD_SECONDS) / TRICKLE_INTERVAL_MILLIS));
+
+        for (int tick = 1; tick <= ticks; tick++) {
+
+            TimeUnit.MILLISECONDS.sleep(TRICKLE_INTERVAL_MILLIS);
+
+            for (int i = 0; i < sockets.size(); i++) {
+                byte[] body = bodies.get(i);
+                int from = (int) ((long) body.length * (tick - 1) / ticks);
+                int to = (int) ((long) body.length * tick / ticks);
+                if(to > from) {
+                    OutputStream outputStream = sockets.get(i).getOutputStream();
+                    outputStream.write(body, from, to - from);
+                    outputStream.flush();
+                }
+            }
+
+            sampleHeap();
+        }
+    }
+
+    private String readStatusLine(Socket socket) {
+        try {
+            return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII)).readLine();
+        } catch (IOException e) {
+            return null; // timeout 포함
+        }
+    }
+
+    private void probeLoop() {
+        while (running) {
+            sendProbe();
+            sampleHeap();
+            try {
+                TimeUnit.MILLISECONDS.sleep(PROBE_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void sendProbe() {
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+                .timeout(Duration.ofMillis(PROBE_TIMEOUT_MILLIS))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        boolean success;
+
+        try {
+            success = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+            return;
+        }
+
+        probe.record(System.nanoTime() - start, success);
+    }
+
+    private void sampleHeap() {
+        long used = memoryMXBean.getHeapMemoryUsage().getUsed();
+        if(used > peakHeapUsed) {
+            peakHeapUsed = used;
+        }
+    }
+
+    private void writeResults(int responses, double completedSeconds) throws IOException {
+
+        Files.createDirectories(OUTPUT_DIR);
+
+        Map<String, Object> slowClients = new LinkedHashMap<>();
+        slowClients.put("connections", SLOW_CLIENTS);
+        slowClients.put("holdSeconds", HOLD_SECONDS);
+        slowClients.put("responses", responses);
+        slowClients.put("completedSeconds", Math.round(completedSeconds * 1000) / 1000.0);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", VIRTUAL_THREADS ? "virtual" : "platform");
+        result.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        result.put("javaVersion", System.getProperty("java.version"));
+        result.put("slowClients", slowClients);
+        result.put("probe", probe.summary(completedSeconds));
+        result.put("peakThreads", threadMXBean.getPeakThreadCount());
+        result.put("peakHeapUsedMB", Math.round(peakHeapUsed / 1024.0 / 1024.0 * 10) / 10.0);
+
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(OUTPUT_DIR.resolve("slow-clients-" + result.get("mode") + ".json").toFile(), result);
+    }
+
+}
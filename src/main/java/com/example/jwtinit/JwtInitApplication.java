@@ -2,8 +2,10 @@ package com.example.jwtinit;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling // 만료 토큰 정리 등 주기 작업
 public class JwtInitApplication {
 
     public static void main(String[] args) {
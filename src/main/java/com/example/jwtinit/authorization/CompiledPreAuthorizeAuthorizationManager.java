@@ -0,0 +1,101 @@
+package com.example.jwtinit.authorization;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// CompiledPreAuthorizeAuthorizationManager: @PreAuthorize 를 SpEL 대신 미리 컴파일한 결정 표로 판단 (MethodSecurityConfig)
+// 1. 결정 표: (메소드, 대상 클래스) -> PreAuthorizeRule, 기동 시 precompile() 로 채우고 없으면 첫 호출 시 컴파일
+//      메소드의 @PreAuthorize 가 없으면 클래스의 @PreAuthorize 사용 (PreAuthorizeAuthorizationManager 와 같은 순서)
+// 2. 규칙 별로 권한 목록 -> 결정을 기억 (PreAuthorizeRule)
+//      JwtAuthenticationToken 의 권한 목록은 AuthorityRegistry 의 공유 인스턴스이므로 조회 한 번으로 끝남
+// 3. 컴파일할 수 없는 표현식 (메소드 인자 참조 등) 은 PreAuthorizeAuthorizationManager (SpEL) 로 평가
+public class CompiledPreAuthorizeAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    // @PreAuthorize 가 없는 메소드
+    private static final Entry NONE = new Entry(null, false);
+    // SpEL 로 평가
+    private static final Entry FALLBACK = new Entry(null, true);
+
+    private final PreAuthorizeAuthorizationManager fallback;
+    private final int maxDecisionsPerRule;
+
+    private final Map<MethodClassKey, Entry> entries = new ConcurrentHashMap<>();
+
+    public CompiledPreAuthorizeAuthorizationManager(PreAuthorizeAuthorizationManager fallback, int maxDecisionsPerRule) {
+        this.fallback = fallback;
+        this.maxDecisionsPerRule = maxDecisionsPerRule;
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation mi) {
+
+        Class<?> targetClass = mi.getThis() != null ? AopUtils.getTargetClass(mi.getThis()) : null;
+        Entry entry = entries.get(new MethodClassKey(mi.getMethod(), targetClass));
+
+        if(entry == null) {
+            entry = precompile(mi.getMethod(), targetClass);
+        }
+
+        if(entry.rule != null) {
+            return entry.rule.decide(authentication.get().getAuthorities());
+        }
+
+        return entry.fallback ? fallback.check(authentication, mi) : null;
+    }
+
+    // 결정 표에 (메소드, 대상 클래스) 의 규칙 등록, 리턴: 컴파일 결과
+    public Entry precompile(Method method, Class<?> targetClass) {
+        return entries.computeIfAbsent(new MethodClassKey(method, targetClass), key -> compile(method, targetClass));
+    }
+
+    private Entry compile(Method method, Class<?> targetClass) {
+
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        PreAuthorize preAuthorize = AnnotatedElementUtils.findMergedAnnotation(specificMethod, PreAuthorize.class);
+
+        if(preAuthorize == null) {
+            preAuthorize = AnnotatedElementUtils.findMergedAnnotation(targetClass != null ? targetClass : specificMethod.getDeclaringClass(), PreAuthorize.class);
+        }
+
+        if(preAuthorize == null) {
+            return NONE;
+        }
+
+        PreAuthorizeRule rule = PreAuthorizeRule.compile(preAuthorize.value(), maxDecisionsPerRule);
+
+        return rule != null ? new Entry(rule, false) : FALLBACK;
+    }
+
+    // 결정 표 항목: rule 이 있으면 컴파일됨, fallback 이면 SpEL, 둘 다 아니면 @PreAuthorize 없음
+    public static final class Entry {
+
+        private final PreAuthorizeRule rule;
+        private final boolean fallback;
+
+        private Entry(PreAuthorizeRule rule, boolean fallback) {
+            this.rule = rule;
+            this.fallback = fallback;
+        }
+
+        public boolean isCompiled() {
+            return rule != null;
+        }
+
+        public boolean isFallback() {
+            return fallback;
+        }
+    }
+
+}
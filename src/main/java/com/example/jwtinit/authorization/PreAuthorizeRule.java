@@ -0,0 +1,120 @@
+package com.example.jwtinit.authorization;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// PreAuthorizeRule: 권한 이름만 확인하는 @PreAuthorize 표현식을 "허용 권한 이름 집합" 으로 컴파일한 결과
+// 컴파일 가능한 표현식 (SecurityExpressionRoot 와 같은 의미)
+//      permitAll, denyAll, hasRole('X'), hasAnyRole('X', 'Y'), hasAuthority('X'), hasAnyAuthority('X', 'Y') 와 이들의 or (||) 조합
+//      hasRole 계열은 ROLE_ 로 시작하지 않으면 ROLE_ 를 붙임
+// 그 외 (and, not, 메소드 인자 참조, isAuthenticated() 등) 는 compile() 이 null -> SpEL 로 평가
+// 결정은 권한 목록 별로 기억 (권한 목록은 AuthorityRegistry 의 공유 인스턴스이므로 조합 수가 적음, maxEntries 까지)
+public final class PreAuthorizeRule {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private static final Pattern OR = Pattern.compile("\\s+or\\s+|\\s*\\|\\|\\s*");
+    private static final Pattern TERM = Pattern.compile("(hasRole|hasAnyRole|hasAuthority|hasAnyAuthority)\\(\\s*('[^']*'(?:\\s*,\\s*'[^']*')*)\\s*\\)");
+    private static final Pattern ARGUMENT = Pattern.compile("'([^']*)'");
+
+    private final String expression;
+    // null: permitAll
+    private final Set<String> allowedAuthorities;
+    private final int maxEntries;
+
+    private final Map<Collection<? extends GrantedAuthority>, AuthorizationDecision> decisions = new ConcurrentHashMap<>();
+
+    private PreAuthorizeRule(String expression, Set<String> allowedAuthorities, int maxEntries) {
+        this.expression = expression;
+        this.allowedAuthorities = allowedAuthorities;
+        this.maxEntries = maxEntries;
+    }
+
+    // 컴파일할 수 없는 표현식이면 null
+    public static PreAuthorizeRule compile(String expression, int maxEntries) {
+
+        String trimmed = expression.trim();
+
+        if(trimmed.equals("permitAll") || trimmed.equals("permitAll()")) {
+            return new PreAuthorizeRule(expression, null, maxEntries);
+        }
+        if(trimmed.equals("denyAll") || trimmed.equals("denyAll()")) {
+            return new PreAuthorizeRule(expression, Collections.emptySet(), maxEntries);
+        }
+
+        Set<String> allowed = new HashSet<>();
+
+        for (String term : OR.split(trimmed)) {
+
+            Matcher matcher = TERM.matcher(term);
+
+            if(!matcher.matches()) {
+                return null;
+            }
+
+            boolean role = matcher.group(1).endsWith("Role");
+            Matcher argument = ARGUMENT.matcher(matcher.group(2));
+
+            while (argument.find()) {
+                String name = argument.group(1);
+                allowed.add(role && !name.startsWith(ROLE_PREFIX) ? ROLE_PREFIX + name : name);
+            }
+        }
+
+        return new PreAuthorizeRule(expression, Collections.unmodifiableSet(allowed), maxEntries);
+    }
+
+    public AuthorizationDecision decide(Collection<? extends GrantedAuthority> authorities) {
+
+        AuthorizationDecision decision = decisions.get(authorities);
+
+        if(decision != null) {
+            return decision;
+        }
+
+        decision = evaluate(authorities);
+
+        if(decisions.size() < maxEntries) {
+            decisions.putIfAbsent(authorities, decision);
+        }
+
+        return decision;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    // 기억하고 있는 결정 수 (최대 maxEntries)
+    int decisionCount() {
+        return decisions.size();
+    }
+
+    private AuthorizationDecision evaluate(Collection<? extends GrantedAuthority> authorities) {
+
+        if(allowedAuthorities == null) {
+            return GRANTED;
+        }
+
+        for (GrantedAuthority authority : authorities) {
+            if(allowedAuthorities.contains(authority.getAuthority())) {
+                return GRANTED;
+            }
+        }
+
+        return DENIED;
+    }
+
+}
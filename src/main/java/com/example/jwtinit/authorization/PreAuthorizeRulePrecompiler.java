@@ -0,0 +1,47 @@
+package com.example.jwtinit.authorization;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.List;
+
+// PreAuthorizeRulePrecompiler: 기동 완료 후 모든 컨트롤러 핸들러 메소드의 @PreAuthorize 를 결정 표에 미리 등록
+// 첫 요청이 컴파일 비용을 내지 않도록 하고, SpEL 로 평가되는 (컴파일할 수 없는) 규칙 수를 로그로 남김
+@Slf4j
+public class PreAuthorizeRulePrecompiler {
+
+    private final CompiledPreAuthorizeAuthorizationManager authorizationManager;
+    private final List<RequestMappingHandlerMapping> handlerMappings;
+
+    public PreAuthorizeRulePrecompiler(CompiledPreAuthorizeAuthorizationManager authorizationManager, List<RequestMappingHandlerMapping> handlerMappings) {
+        this.authorizationManager = authorizationManager;
+        this.handlerMappings = handlerMappings;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+
+        int compiled = 0;
+        int fallback = 0;
+
+        for (RequestMappingHandlerMapping handlerMapping : handlerMappings) {
+            for (HandlerMethod handlerMethod : handlerMapping.getHandlerMethods().values()) {
+
+                CompiledPreAuthorizeAuthorizationManager.Entry entry = authorizationManager.precompile(handlerMethod.getMethod(), handlerMethod.getBeanType());
+
+                if(entry.isCompiled()) {
+                    compiled++;
+                }else if(entry.isFallback()) {
+                    fallback++;
+                    log.info("PreAuthorizeRulePrecompiler SpEL 로 평가: {}", handlerMethod);
+                }
+            }
+        }
+
+        log.info("PreAuthorizeRulePrecompiler @PreAuthorize 규칙 등록. 컴파일: {}, SpEL: {}", compiled, fallback);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.example.jwtinit.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+// 유저 + 권한 정보, 유저 정보 (Projection) 조회 캐시 설정
+// 1. Caffeine 기반 (TTL, 최대 크기 설정), recordStats() 로 hit/miss 통계를 수집 -> actuator 가 cache.gets 메트릭으로 등록
+// 2. TransactionAwareCacheManagerProxy: put/evict 를 트랜잭션 커밋 이후에 수행 (롤백된 데이터가 캐시에 남지 않도록)
+// 3. 캐시 interceptor 를 트랜잭션 interceptor (LOWEST_PRECEDENCE) 바깥에서 실행 -> 캐시 hit 시 트랜잭션, 커넥션을 사용하지 않음
+// 엔티티는 캐시하지 않음 (변경 가능, 영속성 컨텍스트 밖에서 지연 로딩 불가) -> 불변 Dto, Projection 만 캐시
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    // UserCredentialsService.findByUsername() 결과 캐시 (key: username)
+    public static final String USER_CACHE = "usersWithAuthorities";
+    // UserRepository.findProfileRowsByUsername() 결과 캐시 (key: username)
+    public static final String USER_PROFILE_CACHE = "userProfiles";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${user-cache.ttl-seconds:60}") long ttlSeconds
+                                   , @Value("${user-cache.max-size:10000}") long maxSize) {
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(USER_CACHE, USER_PROFILE_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats());
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+}
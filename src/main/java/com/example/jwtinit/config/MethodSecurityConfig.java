@@ -0,0 +1,101 @@
+package com.example.jwtinit.config;
+
+import com.example.jwtinit.authorization.CompiledPreAuthorizeAuthorizationManager;
+import com.example.jwtinit.authorization.PreAuthorizeRulePrecompiler;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.Role;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerAfterMethodInterceptor;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.authorization.method.PostAuthorizeAuthorizationManager;
+import org.springframework.security.authorization.method.PostFilterAuthorizationMethodInterceptor;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.authorization.method.PreFilterAuthorizationMethodInterceptor;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.List;
+
+// 서블릿 (Spring MVC) 메소드 보안 설정: @PreAuthorize 를 CompiledPreAuthorizeAuthorizationManager 로 판단
+// 1. prePostEnabled = false: 기본 (SpEL) @PreAuthorize 인터셉터 대신 아래 Advisor 를 등록
+//      prePostEnabled 를 끄면 @PostAuthorize, @PreFilter, @PostFilter 인터셉터도 빠지므로 기본 구현을 직접 등록
+// 2. 메소드 또는 클래스에 @PreAuthorize 가 있는 Bean 에 적용 (기본 인터셉터와 같은 대상, 같은 순서)
+// 3. method-security.max-decisions-per-rule: 규칙 별로 기억하는 권한 조합 수 (기본 256)
+// reactive 프로파일은 ReactiveSecurityConfig 의 @EnableReactiveMethodSecurity (SpEL) 사용
+@Profile("!reactive")
+@Configuration
+@EnableMethodSecurity(prePostEnabled = false)
+public class MethodSecurityConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static CompiledPreAuthorizeAuthorizationManager compiledPreAuthorizeAuthorizationManager(ApplicationContext applicationContext
+                                                            , @Value("${method-security.max-decisions-per-rule:256}") int maxDecisionsPerRule) {
+
+        PreAuthorizeAuthorizationManager fallback = new PreAuthorizeAuthorizationManager();
+        fallback.setExpressionHandler(expressionHandler(applicationContext));
+
+        return new CompiledPreAuthorizeAuthorizationManager(fallback, maxDecisionsPerRule);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor preAuthorizeAuthorizationMethodInterceptor(CompiledPreAuthorizeAuthorizationManager compiledPreAuthorizeAuthorizationManager) {
+
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(null, PreAuthorize.class, true))
+                .union(new AnnotationMatchingPointcut(PreAuthorize.class, true));
+
+        AuthorizationManagerBeforeMethodInterceptor interceptor =
+                new AuthorizationManagerBeforeMethodInterceptor(pointcut, compiledPreAuthorizeAuthorizationManager);
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder()); // @PreFilter 다음, @PostAuthorize 이전
+        return interceptor;
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor preFilterAuthorizationMethodInterceptor(ApplicationContext applicationContext) {
+        PreFilterAuthorizationMethodInterceptor interceptor = new PreFilterAuthorizationMethodInterceptor();
+        interceptor.setExpressionHandler(expressionHandler(applicationContext));
+        return interceptor;
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor postAuthorizeAuthorizationMethodInterceptor(ApplicationContext applicationContext) {
+        PostAuthorizeAuthorizationManager authorizationManager = new PostAuthorizeAuthorizationManager();
+        authorizationManager.setExpressionHandler(expressionHandler(applicationContext));
+        return AuthorizationManagerAfterMethodInterceptor.postAuthorize(authorizationManager);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor postFilterAuthorizationMethodInterceptor(ApplicationContext applicationContext) {
+        PostFilterAuthorizationMethodInterceptor interceptor = new PostFilterAuthorizationMethodInterceptor();
+        interceptor.setExpressionHandler(expressionHandler(applicationContext));
+        return interceptor;
+    }
+
+    @Bean
+    public PreAuthorizeRulePrecompiler preAuthorizeRulePrecompiler(CompiledPreAuthorizeAuthorizationManager compiledPreAuthorizeAuthorizationManager
+                                                                 , List<RequestMappingHandlerMapping> handlerMappings) {
+        return new PreAuthorizeRulePrecompiler(compiledPreAuthorizeAuthorizationManager, handlerMappings);
+    }
+
+    // SpEL 에서 Bean 참조 (@beanName) 가 가능하도록 ApplicationContext 설정
+    private static DefaultMethodSecurityExpressionHandler expressionHandler(ApplicationContext applicationContext) {
+        DefaultMethodSecurityExpressionHandler expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        expressionHandler.setApplicationContext(applicationContext);
+        return expressionHandler;
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.example.jwtinit.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+// Actuator, Micrometer 기본 설정 (metrics.properties)
+// /actuator/prometheus 로 Prometheus 형식 메트릭 노출, 메트릭 목록은 AuthMetrics 참고
+//      수집 가능한 주소는 MetricsScrapeAllowList (metrics.scrape.allowed-ips)
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+}
@@ -0,0 +1,45 @@
+package com.example.jwtinit.config;
+
+import com.example.jwtinit.crypto.BCryptStrengthCalibrator;
+import com.example.jwtinit.crypto.PasswordHashingPool;
+import com.example.jwtinit.crypto.PooledPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Collections;
+
+// 비밀번호 암호화 설정 (SecurityConfig, ReactiveSecurityConfig 공통)
+@Configuration
+public class PasswordEncoderConfig {
+
+    @Bean
+    // 비밀번호 암호화
+    // 1. BCrypt cost 는 password.bcrypt.strength 로 고정하거나, 지정하지 않으면 기동 시 목표 시간 (password.bcrypt.target-millis) 에 맞게 측정
+    // 2. DelegatingPasswordEncoder: 새 해시는 {bcrypt} 접두어로 저장, 접두어 없는 기존 해시 ($2a$08$...) 도 검증 가능
+    //      -> 기존 해시, 낮은 cost 해시로 로그인하면 upgradeEncoding() 이 true 가 되어
+    //         DaoAuthenticationProvider 가 CustomUserDetailsService.updatePassword() 로 새 해시 저장
+    // 3. BCrypt 연산은 요청 스레드가 아닌 전용 해싱 풀에서 실행 (PasswordHashingPool 참고)
+    public PasswordEncoder passwordEncoder(PasswordHashingPool passwordHashingPool
+                                         , @Value("${password.bcrypt.strength:0}") int strength
+                                         , @Value("${password.bcrypt.target-millis:250}") long targetMillis
+                                         , @Value("${password.bcrypt.min-strength:10}") int minStrength
+                                         , @Value("${password.bcrypt.max-strength:14}") int maxStrength) {
+
+        if(strength <= 0) {
+            strength = BCryptStrengthCalibrator.calibrate(targetMillis, minStrength, maxStrength);
+        }
+
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(strength);
+
+        DelegatingPasswordEncoder delegatingPasswordEncoder =
+                new DelegatingPasswordEncoder("bcrypt", Collections.singletonMap("bcrypt", bCryptPasswordEncoder));
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bCryptPasswordEncoder); // 접두어 없는 기존 해시
+
+        return new PooledPasswordEncoder(delegatingPasswordEncoder, passwordHashingPool);
+    }
+
+}
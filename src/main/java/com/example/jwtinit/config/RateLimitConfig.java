@@ -0,0 +1,23 @@
+package com.example.jwtinit.config;
+
+import com.example.jwtinit.ratelimit.InMemoryLoginAttemptStore;
+import com.example.jwtinit.ratelimit.LoginAttemptStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 로그인 시도 제한 저장소 설정
+// login.rate-limit.store=memory (기본): 노드별 메모리 저장소
+//      여러 노드가 상태를 공유하려면 다른 값을 지정하고 해당 LoginAttemptStore Bean 을 등록
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "login.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+    public LoginAttemptStore loginAttemptStore(@Value("${login.rate-limit.max-entries:100000}") int maxEntries
+                                                     , @Value("${login.rate-limit.stripes:16}") int stripes) {
+        return new InMemoryLoginAttemptStore(maxEntries, stripes);
+    }
+
+}
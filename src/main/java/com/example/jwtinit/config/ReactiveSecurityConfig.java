@@ -0,0 +1,132 @@
+package com.example.jwtinit.config;
+
+import com.example.jwtinit.jwt.AuthEventLogger;
+import com.example.jwtinit.jwt.JwtServerAuthenticationConverter;
+import com.example.jwtinit.jwt.JwtServerAuthenticationEntryPoint;
+import com.example.jwtinit.jwt.JwtTokenVerifier;
+import com.example.jwtinit.jwt.TokenProvider;
+import com.example.jwtinit.jwt.TokenRevocationList;
+import com.example.jwtinit.jwt.VerifiedTokenCache;
+import com.example.jwtinit.metrics.AuthMetrics;
+import com.example.jwtinit.metrics.MetricsScrapeAllowList;
+import com.example.jwtinit.service.ReactiveCustomUserDetailsService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authorization.HttpStatusServerAccessDeniedHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.AndServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+// WebFlux 보안 설정 (reactive 프로파일, application-reactive.properties)
+// 토큰 검증만 하는 게이트웨이 노드처럼 연결 수가 많은 배포용, 서블릿 스택 (SecurityConfig) 과 같은 API, 같은 권한 규칙
+// 1. JwtServerAuthenticationConverter: AuthenticationWebFilter 에서 토큰 검증 (JwtFilter 와 같은 JwtTokenVerifier 사용)
+//      인증 정보는 ThreadLocal (SecurityContextHolder) 대신 Reactor Context (ReactiveSecurityContextHolder) 로 전달
+// 2. 세션 없음 (NoOpServerSecurityContextRepository)
+// 3. @PreAuthorize 는 Mono, Flux 를 리턴하는 메소드에만 적용 가능 (ReactiveUserController 참고)
+// 4. 로그인 (/api/authenticate) 은 UserDetailsRepositoryReactiveAuthenticationManager
+//      비밀번호 확인 (BCrypt) 은 boundedElastic 스케줄러에서 PooledPasswordEncoder 로 실행
+@Profile("reactive")
+@Configuration
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity
+public class ReactiveSecurityConfig {
+
+    private final TokenProvider tokenProvider;
+    private final JwtServerAuthenticationEntryPoint jwtServerAuthenticationEntryPoint;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AuthEventLogger authEventLogger;
+    private final TokenRevocationList tokenRevocationList;
+    private final AuthMetrics authMetrics;
+    private final MetricsScrapeAllowList metricsScrapeAllowList;
+
+    public ReactiveSecurityConfig(TokenProvider tokenProvider, JwtServerAuthenticationEntryPoint jwtServerAuthenticationEntryPoint
+                                , VerifiedTokenCache verifiedTokenCache, AuthEventLogger authEventLogger, TokenRevocationList tokenRevocationList
+                                , AuthMetrics authMetrics, MetricsScrapeAllowList metricsScrapeAllowList) {
+        this.tokenProvider = tokenProvider;
+        this.jwtServerAuthenticationEntryPoint = jwtServerAuthenticationEntryPoint;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.authEventLogger = authEventLogger;
+        this.tokenRevocationList = tokenRevocationList;
+        this.authMetrics = authMetrics;
+        this.metricsScrapeAllowList = metricsScrapeAllowList;
+    }
+
+    @Bean
+    // 로그인용 (username, password) 인증
+    //      기존 해시가 오래된 경우 (upgradeEncoding) ReactiveCustomUserDetailsService.updatePassword() 로 새 해시 저장
+    public ReactiveAuthenticationManager reactiveAuthenticationManager(ReactiveCustomUserDetailsService reactiveCustomUserDetailsService
+                                                                     , PasswordEncoder passwordEncoder) {
+
+        UserDetailsRepositoryReactiveAuthenticationManager authenticationManager =
+                new UserDetailsRepositoryReactiveAuthenticationManager(reactiveCustomUserDetailsService);
+        authenticationManager.setPasswordEncoder(passwordEncoder);
+        authenticationManager.setUserDetailsPasswordService(reactiveCustomUserDetailsService);
+
+        return authenticationManager;
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+
+        // 토큰은 converter 에서 이미 검증되었으므로 그대로 인증 완료 처리
+        AuthenticationWebFilter jwtAuthenticationWebFilter = new AuthenticationWebFilter((ReactiveAuthenticationManager) Mono::just);
+        jwtAuthenticationWebFilter.setServerAuthenticationConverter(new JwtServerAuthenticationConverter(
+                new JwtTokenVerifier(tokenProvider, verifiedTokenCache, authEventLogger, tokenRevocationList, authMetrics)));
+
+        return http
+                .csrf().disable()
+                .httpBasic().disable()
+                .formLogin().disable()
+                .logout().disable() // 로그아웃은 /api/logout (토큰 폐기)
+
+                // 세션 관리 방법 설정 (Stateless)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+
+                // Spring Filter 에서 발생하는 인증/인가 관련 에러 처리 설정
+                .exceptionHandling()
+                    .authenticationEntryPoint(jwtServerAuthenticationEntryPoint)
+                    .accessDeniedHandler(new HttpStatusServerAccessDeniedHandler(HttpStatus.FORBIDDEN))
+
+                // 인증/인가가 필요한 path 설정 (SecurityConfig 와 동일)
+                .and()
+                .authorizeExchange()
+                    .pathMatchers("/", "/index", "/index.html", "/favicon.ico").permitAll()
+                    .pathMatchers("/api/authenticate").permitAll() // 토큰을 받기 위한 로그인 API
+                    .pathMatchers("/api/signup").permitAll() // 회원가입 API
+                    .pathMatchers("/api/refresh").permitAll() // Refresh Token 으로 Access Token 재발급 API
+                    .pathMatchers("/.well-known/jwks.json").permitAll() // 토큰 검증용 공개키 목록
+                    .pathMatchers("/actuator/health").permitAll() // 헬스 체크
+                    .matchers(new AndServerWebExchangeMatcher( // Prometheus 수집, 허용된 주소에서만 토큰 없이 가능 (MetricsScrapeAllowList)
+                            ServerWebExchangeMatchers.pathMatchers("/actuator/prometheus"), this::fromScrapeAllowList)).permitAll()
+                    .pathMatchers("/actuator/prometheus").hasRole("ADMIN") // 그 외 주소에서는 관리자만
+                    .anyExchange().authenticated() // 나머지 요청에 대해서는 모두 인증 받아야함
+
+                .and()
+                .addFilterAt(jwtAuthenticationWebFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    private Mono<ServerWebExchangeMatcher.MatchResult> fromScrapeAllowList(ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        boolean allowed = remoteAddress != null && remoteAddress.getAddress() != null
+                && metricsScrapeAllowList.allows(remoteAddress.getAddress().getHostAddress());
+        return allowed ? ServerWebExchangeMatcher.MatchResult.match() : ServerWebExchangeMatcher.MatchResult.notMatch();
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.example.jwtinit.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+// reactive 프로파일 서버: Netty (이벤트 루프, CPU 코어 수만큼의 I/O 스레드)
+// Tomcat (spring-boot-starter-web) 도 classpath 에 있으면 Spring Boot 는 WebFlux 에도 Tomcat 을 먼저 선택하므로 명시
+// 서버 설정 (server.port 등) 은 그대로 적용됨
+@Profile("reactive")
+@Configuration
+public class ReactiveServerConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+}
@@ -1,41 +1,52 @@
 package com.example.jwtinit.config;
 
 import antlr.Token;
+import com.example.jwtinit.jwt.AuthEventLogger;
 import com.example.jwtinit.jwt.JwtAccessDeniedHandler;
 import com.example.jwtinit.jwt.JwtAuthenticationEntryPoint;
 import com.example.jwtinit.jwt.JwtSecurityConfig;
 import com.example.jwtinit.jwt.TokenProvider;
+import com.example.jwtinit.jwt.TokenRevocationList;
+import com.example.jwtinit.jwt.VerifiedTokenCache;
+import com.example.jwtinit.metrics.AuthMetrics;
+import com.example.jwtinit.metrics.MetricsScrapeAllowList;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Bean;
-import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
+// 서블릿 (Spring MVC) 보안 설정, reactive 프로파일에서는 ReactiveSecurityConfig 사용
+// 비밀번호 암호화 (PasswordEncoder) 는 두 스택이 공유 (PasswordEncoderConfig)
+@Profile("!reactive")
 @EnableWebSecurity // 웹 보안 활성화
-//                          @PreAuthorize 를 메소드 단위로 추가하기 위함
-@EnableGlobalMethodSecurity(prePostEnabled = true)
-//@EnableGlobalMethodSecurity(prePostEnabled = true, secureEnabled = true)
+// @PreAuthorize (메소드 단위 권한) 는 MethodSecurityConfig 에서 설정
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final TokenProvider tokenProvider;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AuthEventLogger authEventLogger;
+    private final TokenRevocationList tokenRevocationList;
+    private final AuthMetrics authMetrics;
+    private final MetricsScrapeAllowList metricsScrapeAllowList;
 
-    public SecurityConfig(TokenProvider tokenProvider, JwtAccessDeniedHandler jwtAccessDeniedHandler, JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint) {
+    public SecurityConfig(TokenProvider tokenProvider, JwtAccessDeniedHandler jwtAccessDeniedHandler, JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint
+                        , VerifiedTokenCache verifiedTokenCache, AuthEventLogger authEventLogger, TokenRevocationList tokenRevocationList
+                        , AuthMetrics authMetrics, MetricsScrapeAllowList metricsScrapeAllowList) {
         this.tokenProvider = tokenProvider;
         this.jwtAccessDeniedHandler = jwtAccessDeniedHandler;
         this.jwtAuthenticationEntryPoint = jwtAuthenticationEntryPoint;
-    }
-
-    @Bean
-    // 비밀번호 암호화
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.authEventLogger = authEventLogger;
+        this.tokenRevocationList = tokenRevocationList;
+        this.authMetrics = authMetrics;
+        this.metricsScrapeAllowList = metricsScrapeAllowList;
     }
 
     @Override
@@ -80,10 +91,17 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                     .antMatchers("/index").permitAll()
                     .antMatchers("/api/authenticate").permitAll() // 토큰을 받기 위한 로그인 API
                     .antMatchers("/api/signup").permitAll() // 회원가입 API
+                    .antMatchers("/api/refresh").permitAll() // Refresh Token 으로 Access Token 재발급 API
+                    .antMatchers("/.well-known/jwks.json").permitAll() // 토큰 검증용 공개키 목록
+                    .antMatchers("/actuator/health").permitAll() // 헬스 체크
+                    .requestMatchers(new AndRequestMatcher( // Prometheus 수집, 허용된 주소에서만 토큰 없이 가능 (MetricsScrapeAllowList)
+                            new AntPathRequestMatcher("/actuator/prometheus"),
+                            request -> metricsScrapeAllowList.allows(request.getRemoteAddr()))).permitAll()
+                    .antMatchers("/actuator/prometheus").hasRole("ADMIN") // 그 외 주소에서는 관리자만
                     .anyRequest().authenticated() // 나머지 요청에 대해서는 모두 인증 받아야함
 
                 .and()
-                .apply(new JwtSecurityConfig(tokenProvider))
+                .apply(new JwtSecurityConfig(tokenProvider, verifiedTokenCache, authEventLogger, tokenRevocationList, authMetrics))
         ;
     }
 
@@ -0,0 +1,52 @@
+package com.example.jwtinit.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.Executors;
+
+// 가상 스레드 실행 모드 (app.virtual-threads.enabled=true, 기본 false, JDK 21 이상)
+// 1. Tomcat 요청 처리: 고정 크기 플랫폼 스레드 풀 (server.tomcat.threads.max, 기본 200) 대신 요청마다 가상 스레드
+//      -> JPA, JDBC 처럼 블로킹되는 동안 캐리어 스레드를 반납하므로 느린 클라이언트, 느린 DB 가 스레드를 점유하지 않음
+// 2. @Async 등에서 쓰는 applicationTaskExecutor 도 가상 스레드
+// 3. 그대로 플랫폼 스레드인 것
+//      PasswordHashingPool: BCrypt 는 CPU 작업이므로 가상 스레드로 바꿔도 이득이 없고, 코어 수로 동시 실행을 제한해야 함
+//      @Scheduled (폐기 목록 동기화, 키 목록 재적재 등)
+//
+// 풀 크기 (virtual-threads.properties)
+//      요청 스레드 수가 더 이상 동시 요청 수를 제한하지 않으므로 제한은 아래에서 걸림
+//      server.tomcat.max-connections: 동시 연결 수 상한 (초과 시 accept-count 만큼 OS 대기열)
+//      spring.datasource.hikari.maximum-pool-size: DB 동시 사용 수, 요청 수가 아닌 DB 가 감당할 수 있는 만큼으로 정함
+//      spring.datasource.hikari.connection-timeout: 커넥션 대기가 길어지면 빨리 실패 (가상 스레드는 대기 중에도 싸지만 응답은 늦어짐)
+//      password-hashing.queue-capacity: 로그인 폭주 시 해싱 대기열, 가득 차면 503
+//
+// pinning: synchronized 블록 안에서 블로킹되거나 Object.wait() 하면 가상 스레드가 캐리어 스레드를 붙잡음 (JDK 21 ~ 23, JDK 24 에서 해결)
+//      Tomcat 9 의 요청 body 읽기 (NioSocketWrapper.fillReadBuffer) 가 Object.wait() 를 사용
+//          -> body 를 천천히 보내는 클라이언트마다 캐리어 스레드가 하나씩 늘어남 (jdk.virtualThreadScheduler.maxPoolSize, 기본 256 까지)
+//          -> 느린 클라이언트가 많으면 플랫폼 스레드 모드보다 약간 나은 정도 (SlowClientLoadTest 참고), 앞단 프록시의 요청 버퍼링이 여전히 필요
+//      H2, Hibernate 내부의 synchronized 도 해당, 커넥션 풀 크기 이상으로 DB 작업이 동시에 실행되지는 않으므로 영향은 풀 크기로 제한됨
+//      Hikari 커넥션 대기, JDBC 소켓 I/O, RestTemplate 호출 등은 캐리어 스레드를 반납함
+//      확인: -Djdk.tracePinnedThreads=short (synchronized 안의 park 만 출력, Object.wait() 는 스레드 덤프로 확인)
+@Configuration
+@ConditionalOnProperty(name = "app.virtual-threads.enabled", havingValue = "true")
+@PropertySource("classpath:virtual-threads.properties")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-vt-", 0).factory()));
+    }
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-vt-", 0).factory()));
+    }
+
+}
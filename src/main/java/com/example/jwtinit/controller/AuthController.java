@@ -2,23 +2,36 @@ package com.example.jwtinit.controller;
 
 import antlr.Token;
 import com.example.jwtinit.dto.LoginDto;
+import com.example.jwtinit.dto.RefreshTokenDto;
 import com.example.jwtinit.dto.TokenDto;
+import com.example.jwtinit.jwt.AuthEventLogger;
+import com.example.jwtinit.jwt.JwtAuthenticationToken;
 import com.example.jwtinit.jwt.JwtFilter;
 import com.example.jwtinit.jwt.TokenProvider;
+import com.example.jwtinit.metrics.AuthMetrics;
+import com.example.jwtinit.ratelimit.ClientIpResolver;
+import com.example.jwtinit.ratelimit.LoginRateLimiter;
+import com.example.jwtinit.service.RefreshTokenService;
+import com.example.jwtinit.service.TokenRevocationService;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.util.Collections;
 
+@Profile("!reactive") // reactive 프로파일은 ReactiveAuthController
 @RestController
 @RequestMapping("/api")
 public class AuthController {
@@ -27,31 +40,99 @@ public class AuthController {
 
     private final TokenProvider tokenProvider;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
+    private final AuthEventLogger authEventLogger;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final AuthMetrics authMetrics;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ClientIpResolver clientIpResolver;
 
-    public AuthController(TokenProvider tokenProvider, AuthenticationManagerBuilder authenticationManagerBuilder) {
+    public AuthController(TokenProvider tokenProvider, AuthenticationManagerBuilder authenticationManagerBuilder, AuthEventLogger authEventLogger
+                        , RefreshTokenService refreshTokenService, TokenRevocationService tokenRevocationService
+                        , AuthMetrics authMetrics, LoginRateLimiter loginRateLimiter, ClientIpResolver clientIpResolver) {
         this.tokenProvider = tokenProvider;
         this.authenticationManagerBuilder = authenticationManagerBuilder;
+        this.authEventLogger = authEventLogger;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.authMetrics = authMetrics;
+        this.loginRateLimiter = loginRateLimiter;
+        this.clientIpResolver = clientIpResolver;
     }
 
     @PostMapping("/authenticate")
-    public ResponseEntity<TokenDto> authorize(@Valid @RequestBody LoginDto loginDto) {
+    public ResponseEntity<TokenDto> authorize(@Valid @RequestBody LoginDto loginDto, HttpServletRequest request) {
+
+        // 시도 제한을 넘으면 유저 조회, BCrypt 없이 429
+        String clientIp = clientIpResolver.resolve(request.getRemoteAddr(), Collections.list(request.getHeaders(ClientIpResolver.X_FORWARDED_FOR)));
+        loginRateLimiter.checkAllowed(clientIp, loginDto.getUsername());
 
         // LoginDto 의 username, password 를 이용해 UsernamePasswordAuthenticationToken 생성
         UsernamePasswordAuthenticationToken authenticationToken =
                 new UsernamePasswordAuthenticationToken(loginDto.getUsername(), loginDto.getPassword());
 
         // authenticationToken 을 이용해서 Authentication 객체 생성 
-        Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+        Authentication authentication;
+
+        try {
+            authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+        } catch (AuthenticationException e) {
+            authEventLogger.loginFailed(loginDto.getUsername(), e.getClass().getSimpleName());
+            authMetrics.loginFailed();
+            loginRateLimiter.loginFailed(clientIp, loginDto.getUsername());
+            throw e;
+        }
+
+        authEventLogger.loginSucceeded(authentication.getName());
+        authMetrics.loginSucceeded();
+        loginRateLimiter.loginSucceeded(clientIp, loginDto.getUsername());
         SecurityContextHolder.getContext().setAuthentication(authentication); // 생성된 Authentication 을 Security Context 에 저장
 
+        String token = tokenProvider.createToken(authentication);
+        String refreshToken = refreshTokenService.issue(authentication.getName());
+
+        return createResponse(token, refreshToken);
+    }
+
+    // Refresh Token 으로 Access Token 재발급 (비밀번호 확인, BCrypt 연산 없음)
+    //      사용한 Refresh Token 은 폐기되고 새 Refresh Token 이 함께 발급됨 (rotation)
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenDto> refresh(@Valid @RequestBody RefreshTokenDto refreshTokenDto) {
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshTokenDto.getRefreshToken());
+
+        // 권한 정보는 rotate() 에서 현재 DB 기준으로 다시 조회 (삭제/비활성화된 유저는 family 폐기 후 401)
+        Authentication authentication =
+                new UsernamePasswordAuthenticationToken(rotation.getUsername(), null, rotation.getAuthorities());
+
         String token = tokenProvider.createToken(authentication);
 
+        return createResponse(token, rotation.getRefreshToken());
+    }
+
+    // 로그아웃: 현재 Access Token 폐기, Refresh Token 을 함께 보내면 해당 family 도 폐기
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody(required = false) RefreshTokenDto refreshTokenDto) {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if(authentication instanceof JwtAuthenticationToken) {
+            tokenRevocationService.revokeToken((JwtAuthenticationToken) authentication);
+        }
+
+        if(refreshTokenDto != null && refreshTokenDto.getRefreshToken() != null) {
+            refreshTokenService.revoke(refreshTokenDto.getRefreshToken());
+        }
+
+        return ResponseEntity.noContent().build();
+    }
+
+    private ResponseEntity<TokenDto> createResponse(String token, String refreshToken) {
+
         HttpHeaders httpHeaders = new HttpHeaders(); // token 을 Header 에 저장
         httpHeaders.add(JwtFilter.AUTHORIZATION_HEADER, TOKEN_TYPE + token); // TokenDto 를 이용해서 Body 에 저장
 
-        ResponseEntity<TokenDto> response = new ResponseEntity<>(new TokenDto(token), httpHeaders, HttpStatus.OK);
-
-        return new ResponseEntity<>(new TokenDto(token), httpHeaders, HttpStatus.OK); // token 이 포함된 Header, Body 와 Http Status 함꼐 return
+        return new ResponseEntity<>(new TokenDto(token, refreshToken), httpHeaders, HttpStatus.OK); // token 이 포함된 Header, Body 와 Http Status 함꼐 return
     }
 
 }
\ No newline at end of file
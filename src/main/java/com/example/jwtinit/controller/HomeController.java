@@ -1,8 +1,10 @@
 package com.example.jwtinit.controller;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 
+@Profile("!reactive") // WebFlux 에서는 정적 리소스 (/index.html) 로 직접 제공
 @Controller
 public class HomeController {
 
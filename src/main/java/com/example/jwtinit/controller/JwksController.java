@@ -0,0 +1,32 @@
+package com.example.jwtinit.controller;
+
+import com.example.jwtinit.jwt.JwkSetConverter;
+import com.example.jwtinit.jwt.TokenProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 토큰 검증용 공개키 목록 (JWKS)
+// 검증 전용 노드는 jwt.jwks-uri 로 이 주소를 지정해 서명 키 없이 토큰을 검증
+// HMAC (jwt.secret) 키는 포함되지 않음 -> 비대칭 모드 (jwt.signing-algorithm, keystore) 에서만 키가 노출됨
+@RestController
+public class JwksController {
+
+    private final TokenProvider tokenProvider;
+
+    public JwksController(TokenProvider tokenProvider) {
+        this.tokenProvider = tokenProvider;
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES))
+                .body(JwkSetConverter.toJwkSet(tokenProvider.getKeyRing()));
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.example.jwtinit.controller;
+
+import com.example.jwtinit.dto.LoginDto;
+import com.example.jwtinit.dto.RefreshTokenDto;
+import com.example.jwtinit.dto.TokenDto;
+import com.example.jwtinit.jwt.AuthEventLogger;
+import com.example.jwtinit.jwt.JwtAuthenticationToken;
+import com.example.jwtinit.jwt.JwtFilter;
+import com.example.jwtinit.jwt.TokenProvider;
+import com.example.jwtinit.metrics.AuthMetrics;
+import com.example.jwtinit.ratelimit.ClientIpResolver;
+import com.example.jwtinit.ratelimit.LoginRateLimiter;
+import com.example.jwtinit.service.RefreshTokenService;
+import com.example.jwtinit.service.TokenRevocationService;
+import com.example.jwtinit.util.ReactorUtil;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import java.net.InetSocketAddress;
+
+// WebFlux (reactive 프로파일) 용 AuthController, 요청/응답은 AuthController 와 동일
+// Refresh Token, 폐기 목록은 JPA (블로킹) 이므로 boundedElastic 스케줄러에서 실행 (ReactorUtil)
+@Profile("reactive")
+@RestController
+@RequestMapping("/api")
+public class ReactiveAuthController {
+
+    private final TokenProvider tokenProvider;
+    private final ReactiveAuthenticationManager reactiveAuthenticationManager;
+    private final AuthEventLogger authEventLogger;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final AuthMetrics authMetrics;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ClientIpResolver clientIpResolver;
+
+    public ReactiveAuthController(TokenProvider tokenProvider, ReactiveAuthenticationManager reactiveAuthenticationManager, AuthEventLogger authEventLogger
+                                , RefreshTokenService refreshTokenService
+                                , TokenRevocationService tokenRevocationService, AuthMetrics authMetrics, LoginRateLimiter loginRateLimiter
+                                , ClientIpResolver clientIpResolver) {
+        this.tokenProvider = tokenProvider;
+        this.reactiveAuthenticationManager = reactiveAuthenticationManager;
+        this.authEventLogger = authEventLogger;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.authMetrics = authMetrics;
+        this.loginRateLimiter = loginRateLimiter;
+        this.clientIpResolver = clientIpResolver;
+    }
+
+    @PostMapping("/authenticate")
+    public Mono<ResponseEntity<TokenDto>> authorize(@Valid @RequestBody LoginDto loginDto, ServerHttpRequest request) {
+
+        UsernamePasswordAuthenticationToken authenticationToken =
+                new UsernamePasswordAuthenticationToken(loginDto.getUsername(), loginDto.getPassword());
+
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        String clientIp = remoteAddress != null && remoteAddress.getAddress() != null
+                ? clientIpResolver.resolve(remoteAddress.getAddress().getHostAddress(), request.getHeaders().get(ClientIpResolver.X_FORWARDED_FOR))
+                : "unknown";
+
+        // 시도 제한을 넘으면 유저 조회, BCrypt 없이 429 (메모리 저장소는 블로킹 없음)
+        return Mono.fromRunnable(() -> loginRateLimiter.checkAllowed(clientIp, loginDto.getUsername()))
+                .then(Mono.defer(() -> reactiveAuthenticationManager.authenticate(authenticationToken)))
+                .doOnError(AuthenticationException.class, e -> {
+                    authEventLogger.loginFailed(loginDto.getUsername(), e.getClass().getSimpleName());
+                    authMetrics.loginFailed();
+                    loginRateLimiter.loginFailed(clientIp, loginDto.getUsername());
+                })
+                .onErrorMap(AuthenticationException.class, ReactiveAuthController::unauthorized)
+                .flatMap(authentication -> {
+
+                    authEventLogger.loginSucceeded(authentication.getName());
+                    authMetrics.loginSucceeded();
+                    loginRateLimiter.loginSucceeded(clientIp, loginDto.getUsername());
+
+                    String token = tokenProvider.createToken(authentication);
+
+                    return ReactorUtil.fromCallable(() -> refreshTokenService.issue(authentication.getName()))
+                            .map(refreshToken -> createResponse(token, refreshToken));
+                });
+    }
+
+    // Refresh Token 으로 Access Token 재발급 (비밀번호 확인, BCrypt 연산 없음)
+    //      사용한 Refresh Token 은 폐기되고 새 Refresh Token 이 함께 발급됨 (rotation)
+    @PostMapping("/refresh")
+    public Mono<ResponseEntity<TokenDto>> refresh(@Valid @RequestBody RefreshTokenDto refreshTokenDto) {
+
+        return ReactorUtil.fromCallable(() -> refreshTokenService.rotate(refreshTokenDto.getRefreshToken()))
+                .map(rotation -> { // 권한 정보는 rotate() 에서 현재 DB 기준으로 다시 조회 (삭제/비활성화된 유저는 family 폐기 후 401)
+                    Authentication authentication =
+                            new UsernamePasswordAuthenticationToken(rotation.getUsername(), null, rotation.getAuthorities());
+                    return createResponse(tokenProvider.createToken(authentication), rotation.getRefreshToken());
+                });
+    }
+
+    // 로그아웃: 현재 Access Token 폐기, Refresh Token 을 함께 보내면 해당 family 도 폐기
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<Void>> logout(@RequestBody(required = false) RefreshTokenDto refreshTokenDto) {
+
+        Mono<Void> revokeAccessToken = ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .ofType(JwtAuthenticationToken.class)
+                .flatMap(authentication -> ReactorUtil.fromCallable(() -> tokenRevocationService.revokeToken(authentication)))
+                .then();
+
+        Mono<Void> revokeRefreshToken = refreshTokenDto != null && refreshTokenDto.getRefreshToken() != null
+                ? ReactorUtil.fromRunnable(() -> refreshTokenService.revoke(refreshTokenDto.getRefreshToken()))
+                : Mono.empty();
+
+        return revokeAccessToken
+                .then(revokeRefreshToken)
+                .thenReturn(ResponseEntity.noContent().build());
+    }
+
+    // 인증 실패는 401 (AuthenticationException 을 그대로 두면 WebFlux 기본 처리로 500)
+    private static ResponseStatusException unauthorized(Throwable e) {
+        return new ResponseStatusException(HttpStatus.UNAUTHORIZED, e.getMessage(), e);
+    }
+
+    private ResponseEntity<TokenDto> createResponse(String token, String refreshToken) {
+
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.add(JwtFilter.AUTHORIZATION_HEADER, AuthController.TOKEN_TYPE + token);
+
+        return new ResponseEntity<>(new TokenDto(token, refreshToken), httpHeaders, HttpStatus.OK);
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.example.jwtinit.controller;
+
+import com.example.jwtinit.dto.BulkSignupResultDto;
+import com.example.jwtinit.dto.UserDto;
+import com.example.jwtinit.dto.UserResponseDto;
+import com.example.jwtinit.entity.User;
+import com.example.jwtinit.service.UserImportService;
+import com.example.jwtinit.service.UserService;
+import com.example.jwtinit.util.ReactorUtil;
+import com.example.jwtinit.util.SecurityUtil;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import java.util.List;
+import java.util.Optional;
+
+// WebFlux (reactive 프로파일) 용 UserController, 요청/응답은 UserController 와 동일
+// @PreAuthorize: Mono 를 리턴하는 메소드에 적용 (@EnableReactiveMethodSecurity)
+@Profile("reactive")
+@RestController
+@RequestMapping("/api")
+public class ReactiveUserController {
+
+    private final UserService userService;
+    private final UserImportService userImportService;
+
+    public ReactiveUserController(UserService userService, UserImportService userImportService) {
+        this.userService = userService;
+        this.userImportService = userImportService;
+    }
+
+    @PostMapping("/signup")
+    public Mono<ResponseEntity<User>> signup(@Valid @RequestBody UserDto userDto) {
+        return ReactorUtil.fromCallable(() -> ResponseEntity.ok(userService.signup(userDto)));
+    }
+
+    // 대량 회원가입 (행 단위 결과 리턴, 검증 실패 행은 INVALID 로 응답)
+    //      요청 body (JSON 배열) 를 List 로 모으지 않고 원소 단위로 decode (codec 의 max-in-memory-size 는 원소 하나에만 적용)
+    //      boundedElastic 스레드에서 user-import.batch-size 개씩 받아가며 chunk 단위로 저장 (UserImportService)
+    //      중간에 JSON 형식이 잘못되면 400 (이전 chunk 는 이미 저장됨 -> 다시 요청하면 해당 행은 DUPLICATE)
+    @PostMapping("/signup/bulk")
+    @PreAuthorize("hasAnyRole('ADMIN')") // 관리자 권한만 허용
+    public Mono<ResponseEntity<List<BulkSignupResultDto>>> bulkSignup(@RequestBody Flux<UserDto> userDtos) {
+        return ReactorUtil.fromCallable(() ->
+                ResponseEntity.ok(userImportService.signupAll(userDtos.toIterable(userImportService.getBatchSize()).iterator())));
+    }
+
+    @GetMapping("/user")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')") // 일반, 관리자 유저 모두 호출 가능
+    public Mono<ResponseEntity<UserResponseDto>> getUserInfo(@Valid @RequestBody UserDto userDto) {
+        return SecurityUtil.getReactiveCurrUsername()
+                .flatMap(username -> ReactorUtil.fromCallable(() -> userService.getUserProfile(username).orElse(null))) // null 이면 빈 Mono
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND)))
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/user/{username}")
+    @PreAuthorize("hasAnyRole('ADMIN')") // 관리자 권한만 허용
+    public Mono<ResponseEntity<Optional<UserResponseDto>>> getAdminUserInfo(@PathVariable String username) {
+        return ReactorUtil.fromCallable(() -> ResponseEntity.ok(userService.getUserProfile(username)));
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.example.jwtinit.controller;
+
+import com.example.jwtinit.service.TokenRevocationService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+
+// 관리자용 토큰 폐기 API
+// reactive 프로파일 (검증 전용 게이트웨이 노드) 에서는 제공하지 않음 -> 서블릿 노드에서 폐기하면 DB 를 통해 동기화됨 (TokenRevocationService)
+@Profile("!reactive")
+@RestController
+@RequestMapping("/api/admin/tokens")
+@PreAuthorize("hasAnyRole('ADMIN')") // 관리자 권한만 허용
+public class TokenRevocationController {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    public TokenRevocationController(TokenRevocationService tokenRevocationService) {
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    // 유저의 모든 토큰 폐기
+    @PostMapping("/revoke/{username}")
+    public ResponseEntity<Void> revokeUser(@PathVariable String username) {
+        tokenRevocationService.revokeUser(username);
+        return ResponseEntity.noContent().build();
+    }
+
+    // before (ISO-8601, 기본값: 현재 시각) 이전에 발행된 모든 토큰 폐기
+    //      미래 시각은 400 (그 시각까지 발행되는 모든 토큰이 거절되고, cutoff 는 DB 에 남아 재시작 후에도 유지되므로)
+    @PostMapping("/revoke-all")
+    public ResponseEntity<Void> revokeAll(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant before) {
+
+        Instant now = Instant.now();
+
+        if(before != null && before.isAfter(now)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "before 는 현재 시각 이후일 수 없습니다.");
+        }
+
+        tokenRevocationService.revokeAllIssuedBefore(before != null ? before : now);
+        return ResponseEntity.noContent().build();
+    }
+
+}
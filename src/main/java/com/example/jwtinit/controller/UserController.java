@@ -1,7 +1,17 @@
 package com.example.jwtinit.controller;
 
+import com.example.jwtinit.dto.BulkSignupResultDto;
 import com.example.jwtinit.dto.UserDto;
+import com.example.jwtinit.service.UserImportService;
 import com.example.jwtinit.service.UserService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,18 +20,27 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.util.List;
 
 // @PreAuthorize: 권한 설정이 필요한 위치에 추가
+@Profile("!reactive") // reactive 프로파일은 ReactiveUserController
 @RestController
 @RequestMapping("/api")
 public class UserController {
 
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final ObjectReader userDtoReader;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserImportService userImportService, ObjectMapper objectMapper) {
         this.userService = userService;
+        this.userImportService = userImportService;
+        this.userDtoReader = objectMapper.readerFor(UserDto.class);
     }
 
     @PostMapping("/signup")
@@ -29,16 +48,40 @@ public class UserController {
         return ResponseEntity.ok(userService.signup(userDto));
     }
 
+    // 대량 회원가입 (행 단위 결과 리턴, 검증 실패 행은 INVALID 로 응답)
+    //      요청 body (JSON 배열) 를 List 로 만들지 않고 원소 단위로 읽으면서 chunk 단위로 저장 (UserImportService)
+    //      중간에 JSON 형식이 잘못되면 400 (이전 chunk 는 이미 저장됨 -> 다시 요청하면 해당 행은 DUPLICATE)
+    @PostMapping(value = "/signup/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN')") // 관리자 권한만 허용
+    public ResponseEntity<List<BulkSignupResultDto>> bulkSignup(HttpServletRequest request) throws IOException {
+
+        try (MappingIterator<UserDto> userDtos = userDtoReader.readValues(request.getInputStream())) {
+            return ResponseEntity.ok(userImportService.signupAll(userDtos));
+        } catch (JsonProcessingException e) {
+            throw badRequest(e);
+        } catch (RuntimeException e) {
+            // MappingIterator 는 읽기 실패를 RuntimeException 으로 감싸서 던짐
+            if(e instanceof RuntimeJsonMappingException || e.getCause() instanceof JsonProcessingException) {
+                throw badRequest(e);
+            }
+            throw e;
+        }
+    }
+
     @GetMapping("/user")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')") // 일반, 관리자 유저 모두 호출 가능
     public ResponseEntity getUserInfo(@Valid @RequestBody UserDto userDto) {
-        return ResponseEntity.ok(userService.getCurrUserWithAuthorities().get());
+        return ResponseEntity.ok(userService.getCurrUserProfile().get());
     }
 
     @GetMapping("/user/{username}")
     @PreAuthorize("hasAnyRole('ADMIN')") // 관리자 권한만 허용
     public ResponseEntity getAdminUserInfo(@PathVariable String username) {
-        return ResponseEntity.ok(userService.getUserWithAuthorities(username));
+        return ResponseEntity.ok(userService.getUserProfile(username));
+    }
+
+    private static ResponseStatusException badRequest(Exception e) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "대량 회원가입 요청의 JSON 형식이 올바르지 않습니다.", e);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,57 @@
+package com.example.jwtinit.crypto;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+// BCryptStrengthCalibrator: 현재 서버에서 BCrypt 해싱 시간을 측정해, 목표 시간 안에 들어오는 가장 높은 cost 선택
+// cost 가 1 오를 때마다 해싱 시간은 약 2배 -> minStrength 부터 올려가며 목표 시간을 넘기 직전 값을 사용
+// (서버 사양이 달라도 로그인 지연 시간이 비슷하도록)
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+
+        // JIT warm-up
+        new BCryptPasswordEncoder(minStrength).encode(SAMPLE_PASSWORD);
+
+        int selected = minStrength;
+
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+
+            long elapsedMillis = measure(strength);
+
+            log.info("BCryptStrengthCalibrator calibrate(): strength {} -> {} ms", strength, elapsedMillis);
+
+            if(elapsedMillis > targetMillis) {
+                break;
+            }
+
+            selected = strength;
+        }
+
+        log.info("BCryptStrengthCalibrator calibrate(): 목표 {} ms, 선택된 strength {}", targetMillis, selected);
+        return selected;
+    }
+
+    // 여러 번 측정한 값 중 가장 짧은 시간 (다른 작업의 영향 최소화)
+    private static long measure(int strength) {
+
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, (System.nanoTime() - startedAt) / 1_000_000);
+        }
+
+        return best;
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.example.jwtinit.crypto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// PasswordHashingPool: BCrypt 처럼 CPU 를 많이 쓰는 해싱 작업 전용 스레드 풀
+// 1. 스레드 수 (password-hashing.threads) 로 동시에 실행되는 해싱 작업 수를 제한 -> 로그인 폭주 시에도 Tomcat 스레드의 CPU 를 보호
+// 2. 대기 큐 (password-hashing.queue-capacity) 가 가득 차면 즉시 거절 (admission control)
+// 3. 대기 + 실행 시간이 password-hashing.timeout-millis 를 넘으면 거절
+//      -> 거절 시 PasswordHashingRejectedException (503)
+// 4. 메트릭: password.hash.duration (해싱 시간), password.hash.queue.wait (큐 대기 시간), password.hash.rejected, password.hash.queue.size
+@Component
+public class PasswordHashingPool implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer hashTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingPool(@Value("${password-hashing.threads:0}") int threads
+                             , @Value("${password-hashing.queue-capacity:100}") int queueCapacity
+                             , @Value("${password-hashing.timeout-millis:5000}") long timeoutMillis
+                             , MeterRegistry meterRegistry) {
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+
+        this.hashTimer = Timer.builder("password.hash.duration")
+                .description("비밀번호 해싱 (encode, matches) 실행 시간")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("password.hash.queue.wait")
+                .description("해싱 작업의 큐 대기 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("풀 포화로 거절된 해싱 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size())
+                .description("대기 중인 해싱 작업 수")
+                .register(meterRegistry);
+    }
+
+    // 해싱 작업을 풀에서 실행하고 결과를 기다림
+    public <T> T execute(Supplier<T> task) {
+
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.get();
+                } finally {
+                    hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException("비밀번호 해싱 대기 큐가 가득 찼습니다.", e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException("비밀번호 해싱 대기 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("비밀번호 해싱이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
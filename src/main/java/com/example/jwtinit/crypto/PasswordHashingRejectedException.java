@@ -0,0 +1,20 @@
+package com.example.jwtinit.crypto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 해싱 풀이 포화 상태 (대기 큐 초과, 대기 시간 초과) 일 때 발생 -> 503 Service Unavailable
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE, reason = "비밀번호 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.")
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
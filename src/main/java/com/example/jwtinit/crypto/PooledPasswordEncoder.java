@@ -0,0 +1,32 @@
+package com.example.jwtinit.crypto;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// encode(), matches() 를 PasswordHashingPool 에서 실행하는 PasswordEncoder
+// upgradeEncoding() 은 해시 문자열만 확인하므로 호출 스레드에서 바로 실행
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingPool pool;
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, PasswordHashingPool pool) {
+        this.delegate = delegate;
+        this.pool = pool;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return pool.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return pool.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+}
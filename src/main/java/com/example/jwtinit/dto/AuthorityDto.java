@@ -0,0 +1,15 @@
+package com.example.jwtinit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+// 권한 정보 응답용 Dto (Authority 엔티티와 같은 JSON 형태: {"authorityName": "..."})
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AuthorityDto {
+
+    private final String authorityName;
+
+}
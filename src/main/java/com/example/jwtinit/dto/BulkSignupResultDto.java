@@ -0,0 +1,23 @@
+package com.example.jwtinit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 대량 회원가입 결과 (행 단위)
+@Getter
+@AllArgsConstructor
+public class BulkSignupResultDto {
+
+    public enum Status {
+        CREATED,    // 가입 완료
+        DUPLICATE,  // 이미 가입된 유저 (또는 같은 요청 안에서 중복된 username)
+        INVALID,    // 입력값 검증 실패
+        FAILED      // 처리 실패 (비밀번호 해싱 풀 포화 등, 다시 요청 가능)
+    }
+
+    private final int index; // 요청 목록에서의 위치 (0 부터)
+    private final String username;
+    private final Status status;
+    private final String message;
+
+}
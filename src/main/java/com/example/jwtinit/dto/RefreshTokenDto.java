@@ -0,0 +1,22 @@
+package com.example.jwtinit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.NotNull;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+// Access Token 재발급 요청용 Dto
+public class RefreshTokenDto {
+
+    @NotNull
+    private String refreshToken;
+
+}
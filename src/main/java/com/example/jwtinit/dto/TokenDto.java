@@ -17,4 +17,6 @@ public class TokenDto {
 
     private String token;
 
+    private String refreshToken; // Access Token 재발급용 (/api/refresh)
+
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.example.jwtinit.dto;
+
+import com.example.jwtinit.entity.Authority;
+import com.example.jwtinit.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 로그인용 유저 정보 (불변, UserCredentialsService 캐시에 저장)
+// User 엔티티 대신 username, 비밀번호 해시, 활성화 여부, 권한 이름만 담음 -> 캐시된 값을 다른 요청이 변경할 수 없음
+// 비밀번호 해시를 포함하므로 응답, 로그에 사용하지 않음 (toString 없음)
+@Getter
+@AllArgsConstructor
+public class UserCredentialsDto {
+
+    private final String username;
+    private final String password;
+    private final boolean activated;
+    private final List<String> authorityNames;
+
+    // 트랜잭션 안에서 호출 (authorities 지연 로딩)
+    public static UserCredentialsDto from(User user) {
+
+        List<String> authorityNames = new ArrayList<>(user.getAuthorities().size());
+
+        for (Authority authority : user.getAuthorities()) {
+            authorityNames.add(authority.getAuthorityName());
+        }
+
+        return new UserCredentialsDto(user.getUsername(), user.getPassword(), user.isActivated(), Collections.unmodifiableList(authorityNames));
+    }
+
+}
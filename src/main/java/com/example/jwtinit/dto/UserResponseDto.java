@@ -0,0 +1,42 @@
+package com.example.jwtinit.dto;
+
+import com.example.jwtinit.repository.UserProfileRow;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+// 유저 정보 응답용 Dto (불변)
+// User 엔티티 대신 username, nickname, 권한 이름만 담아서 응답 (비밀번호, 영속성 컨텍스트 없음)
+@Getter
+@AllArgsConstructor
+public class UserResponseDto {
+
+    private final String username;
+    private final String nickname;
+    private final List<AuthorityDto> authorities;
+
+    // 유저 + 권한 조회 결과 (유저 1명 기준 여러 행) 를 하나의 Dto 로 변환
+    public static Optional<UserResponseDto> from(List<UserProfileRow> rows) {
+
+        if(rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<AuthorityDto> authorities = new ArrayList<>(rows.size());
+
+        for (UserProfileRow row : rows) {
+            if(row.getAuthorityName() != null) {
+                authorities.add(new AuthorityDto(row.getAuthorityName()));
+            }
+        }
+
+        UserProfileRow first = rows.get(0);
+
+        return Optional.of(new UserResponseDto(first.getUsername(), first.getNickname(), Collections.unmodifiableList(authorities)));
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.example.jwtinit.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.Instant;
+
+// 발행 시각 기준 일괄 폐기 (revoked_before 이전에 발행된 Access Token 은 모두 무효)
+// subject: 유저명 (유저 단위 폐기) 또는 GLOBAL_SUBJECT (전체 폐기)
+@Entity
+@Table(name = "token_revocation_cutoff", indexes = {
+        @Index(name = "idx_token_revocation_cutoff_updated_at", columnList = "updated_at")
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TokenRevocationCutoff {
+
+    // 유저명은 3자 이상이므로 겹치지 않음
+    public static final String GLOBAL_SUBJECT = "*";
+
+    @Id
+    @Column(name = "subject", length = 50)
+    private String subject;
+
+    @Column(name = "revoked_before", nullable = false)
+    private Instant revokedBefore;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+}
@@ -0,0 +1,147 @@
+package com.example.jwtinit.jwt;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// AuthEventLogger: 인증 관련 이벤트를 구조화된 형태 (key=value) 로 기록
+// 1. "auth-event" Logger 는 logback-spring.xml 에서 비동기 (AsyncAppender, neverBlock) 로 출력되므로 요청 스레드가 I/O 를 기다리지 않음
+// 2. 이벤트 종류 별로 샘플링 (N 건 중 1 건) 과 초당 최대 기록 건수 제한을 적용 (AuthEventType 참고)
+// 3. 토큰 값은 인자로 받지 않으므로, 토큰의 어떤 부분도 로그에 남지 않음
+// 4. 요청에서 온 값 (user, uri) 은 quote() 로 감싸서 기록 -> 줄바꿈이나 "key=" 로 다른 기록을 위조할 수 없음
+@Component
+public class AuthEventLogger {
+
+    public static final String LOGGER_NAME = "auth-event";
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+
+    // quote() 가 남기는 최대 글자 수 (넘으면 잘라내고 ... 표시)
+    static final int MAX_VALUE_LENGTH = 128;
+
+    private final Policy[] policies = new Policy[AuthEventType.values().length];
+
+    public AuthEventLogger(Environment environment) {
+        for (AuthEventType type : AuthEventType.values()) {
+            String prefix = "auth-event.log." + type.getKey();
+            policies[type.ordinal()] = new Policy(
+                    environment.getProperty(prefix + ".sample-rate", Integer.class, type.getDefaultSampleRate()),
+                    environment.getProperty(prefix + ".max-per-second", Integer.class, type.getDefaultMaxPerSecond()));
+        }
+    }
+
+    public void tokenAccepted(String username, String uri) {
+        long suppressed = acquire(AuthEventType.TOKEN_ACCEPTED);
+        if(suppressed >= 0) {
+            log.info("event={} user={} uri={} suppressed={}", AuthEventType.TOKEN_ACCEPTED.getKey(), quote(username), quote(uri), suppressed);
+        }
+    }
+
+    public void tokenRejected(TokenFailureReason reason, String uri) {
+        long suppressed = acquire(AuthEventType.TOKEN_REJECTED);
+        if(suppressed >= 0) {
+            log.info("event={} reason={} uri={} suppressed={}", AuthEventType.TOKEN_REJECTED.getKey(), reason, quote(uri), suppressed);
+        }
+    }
+
+    public void tokenMissing(String uri) {
+        long suppressed = acquire(AuthEventType.TOKEN_MISSING);
+        if(suppressed >= 0) {
+            log.info("event={} uri={} suppressed={}", AuthEventType.TOKEN_MISSING.getKey(), quote(uri), suppressed);
+        }
+    }
+
+    public void loginSucceeded(String username) {
+        long suppressed = acquire(AuthEventType.LOGIN_SUCCESS);
+        if(suppressed >= 0) {
+            log.info("event={} user={} suppressed={}", AuthEventType.LOGIN_SUCCESS.getKey(), quote(username), suppressed);
+        }
+    }
+
+    public void loginFailed(String username, String reason) {
+        long suppressed = acquire(AuthEventType.LOGIN_FAILURE);
+        if(suppressed >= 0) {
+            log.info("event={} user={} reason={} suppressed={}", AuthEventType.LOGIN_FAILURE.getKey(), quote(username), reason, suppressed);
+        }
+    }
+
+    // 큰따옴표로 감싸고 \, " 와 제어 문자를 escape, MAX_VALUE_LENGTH 를 넘으면 잘라냄 (null 이면 -)
+    static String quote(String value) {
+
+        if(value == null) {
+            return "-";
+        }
+
+        int length = Math.min(value.length(), MAX_VALUE_LENGTH);
+        StringBuilder quoted = new StringBuilder(length + 8).append('"');
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if(c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            }else if(c < 0x20 || c == 0x7f || c == '\u2028' || c == '\u2029') {
+                quoted.append(String.format("\\u%04x", (int) c));
+            }else {
+                quoted.append(c);
+            }
+        }
+
+        if(value.length() > MAX_VALUE_LENGTH) {
+            quoted.append("...");
+        }
+
+        return quoted.append('"').toString();
+    }
+
+    // 기록해야 하면 직전 기록 이후 버려진 건수 (0 이상), 기록하지 않아야 하면 -1 리턴
+    long acquire(AuthEventType type) {
+
+        if(!log.isInfoEnabled()) {
+            return -1;
+        }
+
+        return policies[type.ordinal()].acquire(System.currentTimeMillis());
+    }
+
+    // 이벤트 종류 별 샘플링 + 1 초 고정 윈도우 방식의 기록 건수 제한 (lock-free)
+    static final class Policy {
+
+        private final int sampleRate;
+        private final int maxPerSecond;
+
+        private final AtomicLong sequence = new AtomicLong();
+        private final AtomicLong windowSecond = new AtomicLong();
+        private final AtomicLong windowCount = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        Policy(int sampleRate, int maxPerSecond) {
+            this.sampleRate = Math.max(1, sampleRate);
+            this.maxPerSecond = maxPerSecond;
+        }
+
+        long acquire(long now) {
+
+            if(sampleRate > 1 && sequence.getAndIncrement() % sampleRate != 0) {
+                return -1;
+            }
+
+            long second = now / 1000;
+            long current = windowSecond.get();
+
+            if(current != second && windowSecond.compareAndSet(current, second)) {
+                windowCount.set(0);
+            }
+
+            if(maxPerSecond > 0 && windowCount.incrementAndGet() > maxPerSecond) {
+                suppressed.incrementAndGet();
+                return -1;
+            }
+
+            return suppressed.getAndSet(0);
+        }
+    }
+
+}
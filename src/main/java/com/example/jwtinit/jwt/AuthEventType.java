@@ -0,0 +1,38 @@
+package com.example.jwtinit.jwt;
+
+// 인증 이벤트 종류 별 기본 로깅 정책
+//      sampleRate: N 건 중 1 건만 기록 (1 이면 모두 기록)
+//      maxPerSecond: 초당 최대 기록 건수 (초과분은 버리고, 다음 기록 시 suppressed 건수로 함께 남김)
+// application 설정 auth-event.log.{key}.sample-rate / auth-event.log.{key}.max-per-second 로 변경 가능
+public enum AuthEventType {
+
+    TOKEN_ACCEPTED(100, 10),
+    TOKEN_REJECTED(1, 50),
+    TOKEN_MISSING(100, 10),
+    LOGIN_SUCCESS(1, 100),
+    LOGIN_FAILURE(1, 100);
+
+    private final int defaultSampleRate;
+    private final int defaultMaxPerSecond;
+    private final String key;
+
+    AuthEventType(int defaultSampleRate, int defaultMaxPerSecond) {
+        this.defaultSampleRate = defaultSampleRate;
+        this.defaultMaxPerSecond = defaultMaxPerSecond;
+        this.key = name().toLowerCase().replace('_', '-');
+    }
+
+    public int getDefaultSampleRate() {
+        return defaultSampleRate;
+    }
+
+    public int getDefaultMaxPerSecond() {
+        return defaultMaxPerSecond;
+    }
+
+    // 설정 키 및 로그에 사용하는 이름 (ex. token-rejected)
+    public String getKey() {
+        return key;
+    }
+
+}
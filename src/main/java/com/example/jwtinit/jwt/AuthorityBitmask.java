@@ -0,0 +1,123 @@
+package com.example.jwtinit.jwt;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+// AuthorityBitmask: authority 테이블의 권한 목록 (이름 순 정렬) 에 비트 번호를 매긴 불변 스냅샷
+// 압축 토큰 (jwt.compact-authorities) 은 auth Claim ("ROLE_USER,ROLE_ADMIN") 대신 비트마스크 (am) 와 버전 (av) 을 저장
+// 1. 버전: 정렬된 권한 이름 목록의 CRC32 -> 같은 테이블이면 모든 노드, 재시작 후에도 같은 값
+//      권한이 추가/삭제되면 비트 번호가 바뀔 수 있으므로 버전이 다른 토큰은 해당 버전의 스냅샷으로만 해석
+// 2. encode(): 권한 목록 -> 비트마스크, 테이블에 없는 권한이 있으면 -1 (auth Claim 으로 발행)
+// 3. decode(): 비트마스크 -> 불변 권한 목록, 비트마스크 별로 한 번만 만들고 재사용 (maxEntries 까지)
+public final class AuthorityBitmask {
+
+    // 비트마스크는 long (JSON 숫자) 하나로 표현
+    public static final int MAX_AUTHORITIES = Long.SIZE - 1;
+
+    private final int version;
+    private final List<GrantedAuthority> authorities;
+    private final Map<String, Integer> bits;
+    private final long validBits;
+    private final int maxEntries;
+
+    private final Map<Long, List<GrantedAuthority>> authoritySets = new ConcurrentHashMap<>();
+
+    private AuthorityBitmask(List<String> names, int maxEntries) {
+
+        List<GrantedAuthority> authorities = new ArrayList<>(names.size());
+        Map<String, Integer> bits = new HashMap<>();
+
+        for (String name : names) {
+            bits.put(name, authorities.size());
+            authorities.add(new SimpleGrantedAuthority(name));
+        }
+
+        this.version = version(names);
+        this.authorities = Collections.unmodifiableList(authorities);
+        this.bits = bits;
+        this.validBits = (1L << names.size()) - 1;
+        this.maxEntries = maxEntries;
+    }
+
+    // 권한 이름 목록 (순서, 중복 무관) 으로 생성, MAX_AUTHORITIES 를 넘으면 IllegalArgumentException
+    public static AuthorityBitmask of(Collection<String> authorityNames, int maxEntries) {
+
+        List<String> names = new ArrayList<>(new TreeSet<>(authorityNames));
+
+        if(names.size() > MAX_AUTHORITIES) {
+            throw new IllegalArgumentException("권한이 " + MAX_AUTHORITIES + " 개를 넘어 비트마스크로 표현할 수 없습니다: " + names.size());
+        }
+
+        return new AuthorityBitmask(names, maxEntries);
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return authorities.size();
+    }
+
+    // 권한 목록 -> 비트마스크, 테이블에 없는 권한이 있으면 -1
+    public long encode(Collection<? extends GrantedAuthority> grantedAuthorities) {
+
+        long mask = 0;
+
+        for (GrantedAuthority grantedAuthority : grantedAuthorities) {
+            Integer bit = bits.get(grantedAuthority.getAuthority());
+            if(bit == null) {
+                return -1;
+            }
+            mask |= 1L << bit;
+        }
+
+        return mask;
+    }
+
+    // 이 버전에 없는 비트가 있으면 false
+    public boolean isValid(long mask) {
+        return mask >= 0 && (mask & ~validBits) == 0;
+    }
+
+    // 비트마스크 -> 불변 권한 목록 (isValid() 확인 후 호출)
+    public List<GrantedAuthority> decode(long mask) {
+
+        List<GrantedAuthority> authoritySet = authoritySets.get(mask);
+
+        if(authoritySet != null) {
+            return authoritySet;
+        }
+
+        List<GrantedAuthority> result = new ArrayList<>(Long.bitCount(mask));
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            result.add(authorities.get(Long.numberOfTrailingZeros(remaining)));
+        }
+        authoritySet = Collections.unmodifiableList(result);
+
+        if(authoritySets.size() < maxEntries) {
+            List<GrantedAuthority> previous = authoritySets.putIfAbsent(mask, authoritySet);
+            return previous != null ? previous : authoritySet;
+        }
+
+        return authoritySet;
+    }
+
+    private static int version(List<String> names) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(String.join(",", names).getBytes(StandardCharsets.UTF_8));
+        return (int) (crc32.getValue() & Integer.MAX_VALUE); // JSON 에 음수 부호가 붙지 않도록
+    }
+
+}
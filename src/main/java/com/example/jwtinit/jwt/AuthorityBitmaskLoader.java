@@ -0,0 +1,62 @@
+package com.example.jwtinit.jwt;
+
+import com.example.jwtinit.entity.Authority;
+import com.example.jwtinit.repository.AuthorityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// AuthorityBitmaskLoader: authority 테이블을 읽어 TokenProvider 의 AuthorityBitmask 를 적재/교체
+// 1. 기동 완료 후 (data.sql 적용 이후) 한 번, 이후 jwt.authority-bitmask-reload-interval-millis 마다 다시 읽음
+// 2. 권한 목록이 바뀌지 않았으면 (같은 버전) 그대로 유지
+// 3. 적재는 jwt.compact-authorities 와 관계없이 수행 -> 발행을 켜기 전에 모든 노드가 압축 토큰을 해석할 수 있도록
+// 읽다가 실패하거나 권한이 너무 많으면 기존 스냅샷 유지 (없으면 auth Claim 으로 발행)
+@Slf4j
+@Component
+public class AuthorityBitmaskLoader {
+
+    private final TokenProvider tokenProvider;
+    private final AuthorityRepository authorityRepository;
+
+    public AuthorityBitmaskLoader(TokenProvider tokenProvider, AuthorityRepository authorityRepository) {
+        this.tokenProvider = tokenProvider;
+        this.authorityRepository = authorityRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${jwt.authority-bitmask-reload-interval-millis:60000}"
+             , fixedDelayString = "${jwt.authority-bitmask-reload-interval-millis:60000}")
+    public synchronized void reload() {
+
+        try {
+
+            List<String> names = authorityRepository.findAll().stream()
+                    .map(Authority::getAuthorityName)
+                    .collect(Collectors.toList());
+
+            AuthorityBitmask bitmask = AuthorityBitmask.of(names, TokenProvider.MAX_AUTHORITY_SETS);
+            AuthorityBitmask current = tokenProvider.getAuthorityBitmask();
+
+            if(current != null && current.getVersion() == bitmask.getVersion()) {
+                return;
+            }
+
+            tokenProvider.setAuthorityBitmask(bitmask);
+
+            log.info("AuthorityBitmaskLoader 권한 비트마스크 적용. version: {}, 권한 수: {}", bitmask.getVersion(), bitmask.size());
+
+        } catch (RuntimeException e) {
+            log.warn("AuthorityBitmaskLoader reload(): 권한 목록을 읽지 못해 기존 비트마스크 유지. {}: {}", e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+}
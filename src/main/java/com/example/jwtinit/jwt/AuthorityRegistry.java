@@ -0,0 +1,94 @@
+package com.example.jwtinit.jwt;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// AuthorityRegistry: auth Claim 값 (ex. "ROLE_USER,ROLE_ADMIN") 을 공유 가능한 불변 권한 목록으로 변환
+// 실제로 존재하는 권한 조합은 몇 개 되지 않으므로, Claim 값 별로 한 번만 만들고 이후에는 같은 인스턴스를 재사용
+// 등록된 조합이 maxEntries 를 넘으면 더 이상 등록하지 않고 매번 새로 생성 (메모리 상한)
+public class AuthorityRegistry {
+
+    private static final char DELIMITER = ',';
+
+    private final int maxEntries;
+
+    private final Map<String, List<GrantedAuthority>> authoritySets = new ConcurrentHashMap<>();
+    private final Map<String, GrantedAuthority> authorities = new ConcurrentHashMap<>();
+
+    public AuthorityRegistry(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    // Claim 값에 해당하는 불변 권한 목록 리턴
+    public List<GrantedAuthority> resolve(String claim) {
+
+        List<GrantedAuthority> authoritySet = authoritySets.get(claim);
+
+        if(authoritySet != null) {
+            return authoritySet;
+        }
+
+        authoritySet = parse(claim);
+
+        if(authoritySets.size() < maxEntries) {
+            List<GrantedAuthority> previous = authoritySets.putIfAbsent(claim, authoritySet);
+            return previous != null ? previous : authoritySet;
+        }
+
+        return authoritySet;
+    }
+
+    public int size() {
+        return authoritySets.size();
+    }
+
+    // 정규식을 사용하는 String.split() 대신 구분자 위치로 직접 분리
+    private List<GrantedAuthority> parse(String claim) {
+
+        if(claim.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<GrantedAuthority> result = new ArrayList<>(4);
+        int start = 0;
+
+        while(start <= claim.length()) {
+
+            int end = claim.indexOf(DELIMITER, start);
+
+            if(end < 0) {
+                end = claim.length();
+            }
+
+            if(end > start) {
+                result.add(authority(claim.substring(start, end)));
+            }
+
+            start = end + 1;
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+    private GrantedAuthority authority(String name) {
+
+        GrantedAuthority authority = authorities.get(name);
+
+        if(authority != null) {
+            return authority;
+        }
+
+        if(authorities.size() < maxEntries) {
+            return authorities.computeIfAbsent(name, SimpleGrantedAuthority::new);
+        }
+
+        return new SimpleGrantedAuthority(name);
+    }
+
+}
@@ -0,0 +1,177 @@
+package com.example.jwtinit.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// JwkSetConverter: SigningKeyRing 의 공개키 <-> JWK Set (RFC 7517) 변환
+// 1. toJwkSet(): 발행 서버가 /.well-known/jwks.json 으로 공개 (RSA, EC 공개키만 포함, HMAC secret 은 절대 포함하지 않음)
+// 2. fromJwkSet(): 검증 전용 서버가 JWKS 를 받아 검증 키 목록 생성 (서명 키 없음)
+//      지원하지 않거나 (EdDSA 등) 잘못된 키는 로그를 남기고 그 키만 건너뜀 -> 나머지 키로 계속 검증
+@Slf4j
+public final class JwkSetConverter {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private JwkSetConverter() {
+    }
+
+    public static Map<String, Object> toJwkSet(SigningKeyRing keyRing) {
+
+        List<Map<String, Object>> jwks = new ArrayList<>();
+
+        for (SigningKey signingKey : keyRing.keys()) {
+
+            Key key = signingKey.getVerificationKey();
+
+            if(key instanceof RSAPublicKey) {
+                RSAPublicKey rsaPublicKey = (RSAPublicKey) key;
+                Map<String, Object> jwk = header(signingKey, "RSA");
+                jwk.put("n", encode(rsaPublicKey.getModulus(), 0));
+                jwk.put("e", encode(rsaPublicKey.getPublicExponent(), 0));
+                jwks.add(jwk);
+            }else if(key instanceof ECPublicKey) {
+                ECPublicKey ecPublicKey = (ECPublicKey) key;
+                int size = (ecPublicKey.getParams().getCurve().getField().getFieldSize() + 7) / 8;
+                Map<String, Object> jwk = header(signingKey, "EC");
+                jwk.put("crv", curveName(signingKey.getAlgorithm()));
+                jwk.put("x", encode(ecPublicKey.getW().getAffineX(), size));
+                jwk.put("y", encode(ecPublicKey.getW().getAffineY(), size));
+                jwks.add(jwk);
+            }
+        }
+
+        return Collections.singletonMap("keys", jwks);
+    }
+
+    // 지원하지 않는 kty, alg 의 키, 값이 잘못된 키는 건너뜀
+    @SuppressWarnings("unchecked")
+    public static Map<String, SigningKey> fromJwkSet(Map<String, Object> jwkSet) {
+
+        Map<String, SigningKey> keys = new HashMap<>();
+        Object entries = jwkSet.get("keys");
+
+        if(!(entries instanceof List)) {
+            return keys;
+        }
+
+        for (Object entry : (List<Object>) entries) {
+
+            if(!(entry instanceof Map)) {
+                continue;
+            }
+
+            Map<String, Object> jwk = (Map<String, Object>) entry;
+            Object keyId = jwk.get("kid");
+
+            try {
+                SigningKey signingKey = fromJwk(jwk);
+                if(signingKey != null) {
+                    keys.put(signingKey.getKeyId(), signingKey);
+                }
+            } catch (GeneralSecurityException | RuntimeException e) {
+                // SignatureAlgorithm.forName() 은 모르는 alg 에 SignatureException, 잘못된 값은 IllegalArgumentException 등
+                log.warn("JwkSetConverter 지원하지 않거나 잘못된 JWK 를 건너뜀. kid: {}, alg: {}, {}: {}",
+                        keyId, jwk.get("alg"), e.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+
+        return keys;
+    }
+
+    // JWK 하나를 검증 키로 변환, 지원하지 않는 kty 이거나 kid, alg 가 없으면 null
+    private static SigningKey fromJwk(Map<String, Object> jwk) throws GeneralSecurityException {
+
+        Object keyId = jwk.get("kid");
+        Object alg = jwk.get("alg");
+        if(!(keyId instanceof String) || !(alg instanceof String)) {
+            return null;
+        }
+
+        SignatureAlgorithm algorithm = SignatureAlgorithm.forName((String) alg);
+        PublicKey publicKey;
+
+        if("RSA".equals(jwk.get("kty")) && algorithm.isRsa()) {
+            publicKey = KeyFactory.getInstance("RSA").generatePublic(
+                    new RSAPublicKeySpec(decode(jwk.get("n")), decode(jwk.get("e"))));
+        }else if("EC".equals(jwk.get("kty")) && algorithm.isEllipticCurve()) {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+            parameters.init(new ECGenParameterSpec(standardCurveName(algorithm)));
+            publicKey = KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(
+                    new ECPoint(decode(jwk.get("x")), decode(jwk.get("y"))), parameters.getParameterSpec(ECParameterSpec.class)));
+        }else {
+            return null;
+        }
+
+        return new SigningKey((String) keyId, algorithm, null, publicKey);
+    }
+
+    private static Map<String, Object> header(SigningKey signingKey, String keyType) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", keyType);
+        jwk.put("kid", signingKey.getKeyId());
+        jwk.put("use", "sig");
+        jwk.put("alg", signingKey.getAlgorithm().getValue());
+        return jwk;
+    }
+
+    // unsigned big-endian, size > 0 이면 앞쪽을 0 으로 채워 고정 길이로 맞춤 (EC 좌표)
+    private static String encode(BigInteger value, int size) {
+
+        byte[] bytes = value.toByteArray();
+
+        if(bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if(size > bytes.length) {
+            byte[] padded = new byte[size];
+            System.arraycopy(bytes, 0, padded, size - bytes.length, bytes.length);
+            bytes = padded;
+        }
+
+        return ENCODER.encodeToString(bytes);
+    }
+
+    private static BigInteger decode(Object value) {
+        return new BigInteger(1, DECODER.decode((String) value));
+    }
+
+    private static String curveName(SignatureAlgorithm algorithm) {
+        switch (algorithm) {
+            case ES256: return "P-256";
+            case ES384: return "P-384";
+            default: return "P-521";
+        }
+    }
+
+    private static String standardCurveName(SignatureAlgorithm algorithm) {
+        switch (algorithm) {
+            case ES256: return "secp256r1";
+            case ES384: return "secp384r1";
+            default: return "secp521r1";
+        }
+    }
+
+}
@@ -14,9 +14,24 @@ import java.io.IOException;
 // -> 유효한 자격 증명 제공하지 않고 접근했을 경우
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
+    private static final String WWW_AUTHENTICATE_HEADER = "WWW-Authenticate";
+
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException) throws IOException, ServletException {
+
+        // JwtFilter 에서 토큰 검증에 실패했다면, 실패 사유를 WWW-Authenticate 헤더로 전달 (RFC 6750)
+        Object failureReason = request.getAttribute(JwtFilter.FAILURE_REASON_ATTRIBUTE);
+
+        if(failureReason instanceof TokenFailureReason) {
+            response.setHeader(WWW_AUTHENTICATE_HEADER, bearerChallenge((TokenFailureReason) failureReason));
+        }
+
         response.sendError(HttpServletResponse.SC_UNAUTHORIZED); // SC_UNAUTHORIZED: 401 Error
     }
 
+    // WWW-Authenticate 헤더 값 (JwtServerAuthenticationEntryPoint 공통)
+    static String bearerChallenge(TokenFailureReason failureReason) {
+        return "Bearer error=\"invalid_token\", error_description=\"" + failureReason.name().toLowerCase() + "\"";
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.example.jwtinit.jwt;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+// JwtAuthenticationToken: JWT 로 인증된 사용자를 나타내는 Authentication (인증 해제 외에는 불변)
+// 1. 요청마다 UserDetails.User, UsernamePasswordAuthenticationToken 을 만들지 않고, 검증된 Claim 값만 보관
+// 2. 권한 목록은 AuthorityRegistry 가 관리하는 공유 인스턴스를 그대로 사용 (복사하지 않음)
+// 3. 원본 토큰은 보관하지 않음 (getCredentials() 는 항상 null)
+// 4. getPrincipal() 은 username(String) 을 리턴하므로 SecurityUtil.getCurrUsername() 에서 그대로 사용 가능
+// 5. tokenId (jti) 는 로그아웃 시 토큰 단위 폐기에 사용 (TokenRevocationList)
+// 6. setAuthenticated(false) 는 Authentication 계약대로 허용, true 로 바꾸는 것만 거부
+//      인증 해제된 인스턴스는 VerifiedTokenCache 가 더 이상 돌려주지 않음
+public final class JwtAuthenticationToken implements Authentication {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String tokenId;
+    private final String username;
+    private final List<GrantedAuthority> authorities;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    private volatile boolean authenticated = true;
+
+    public JwtAuthenticationToken(String tokenId, String username, List<GrantedAuthority> authorities, Instant issuedAt, Instant expiresAt) {
+        this.tokenId = tokenId;
+        this.username = username;
+        this.authorities = authorities;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return username;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) throws IllegalArgumentException {
+        if(isAuthenticated) {
+            throw new IllegalArgumentException("JwtAuthenticationToken 은 인증 상태로 변경할 수 없습니다. 토큰을 다시 검증하세요.");
+        }
+        this.authenticated = false;
+    }
+
+    // 토큰 ID (jti), 없으면 null
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    // 토큰 발행 일자 (iat), 없으면 null
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    // 토큰 만료 일자 (exp), 없으면 null
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this == o) {
+            return true;
+        }
+        if(!(o instanceof JwtAuthenticationToken)) {
+            return false;
+        }
+        JwtAuthenticationToken that = (JwtAuthenticationToken) o;
+        return Objects.equals(tokenId, that.tokenId)
+                && username.equals(that.username)
+                && authorities.equals(that.authorities)
+                && Objects.equals(issuedAt, that.issuedAt)
+                && Objects.equals(expiresAt, that.expiresAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tokenId, username, authorities, issuedAt, expiresAt);
+    }
+
+    @Override
+    public String toString() {
+        return "JwtAuthenticationToken [tokenId=" + tokenId + ", username=" + username + ", authorities=" + authorities
+                + ", issuedAt=" + issuedAt + ", expiresAt=" + expiresAt + "]";
+    }
+
+}
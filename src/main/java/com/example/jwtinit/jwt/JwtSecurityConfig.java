@@ -1,5 +1,6 @@
 package com.example.jwtinit.jwt;
 
+import com.example.jwtinit.metrics.AuthMetrics;
 
 import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -10,14 +11,23 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class JwtSecurityConfig extends SecurityConfigurerAdapter<DefaultSecurityFilterChain, HttpSecurity> {
 
     private TokenProvider tokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private AuthEventLogger authEventLogger;
+    private TokenRevocationList tokenRevocationList;
+    private AuthMetrics authMetrics;
 
-    public JwtSecurityConfig(TokenProvider tokenProvider) {
+    public JwtSecurityConfig(TokenProvider tokenProvider, VerifiedTokenCache verifiedTokenCache, AuthEventLogger authEventLogger
+                           , TokenRevocationList tokenRevocationList, AuthMetrics authMetrics) {
         this.tokenProvider = tokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.authEventLogger = authEventLogger;
+        this.tokenRevocationList = tokenRevocationList;
+        this.authMetrics = authMetrics;
     }
 
     @Override
     public void configure(HttpSecurity http) throws Exception {
-        JwtFilter jwtFilter = new JwtFilter(tokenProvider);
+        JwtFilter jwtFilter = new JwtFilter(tokenProvider, verifiedTokenCache, authEventLogger, tokenRevocationList, authMetrics);
         http.addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class); // JwtFilter를 Security 로직에 필터 등록
     }
 
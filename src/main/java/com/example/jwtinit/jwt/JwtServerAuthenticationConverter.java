@@ -0,0 +1,31 @@
+package com.example.jwtinit.jwt;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+// JwtServerAuthenticationConverter: WebFlux (reactive 프로파일) 의 JwtFilter
+// AuthenticationWebFilter 가 호출, Authorization 헤더의 토큰을 검증해서 Authentication 리턴 (검증은 JwtTokenVerifier 공통)
+//      토큰이 없거나 유효하지 않으면 빈 Mono -> 인증 없이 다음 필터로 진행 (permitAll 경로는 그대로 통과)
+//      실패 사유는 exchange attribute 에 저장 -> JwtServerAuthenticationEntryPoint 가 WWW-Authenticate 헤더로 전달
+// 서명 검증, 캐시, 폐기 목록 조회 모두 메모리/CPU 작업이므로 이벤트 루프에서 바로 실행
+public class JwtServerAuthenticationConverter implements ServerAuthenticationConverter {
+
+    private final JwtTokenVerifier jwtTokenVerifier;
+
+    public JwtServerAuthenticationConverter(JwtTokenVerifier jwtTokenVerifier) {
+        this.jwtTokenVerifier = jwtTokenVerifier;
+    }
+
+    @Override
+    public Mono<Authentication> convert(ServerWebExchange exchange) {
+
+        String token = JwtTokenVerifier.resolveToken(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+
+        return Mono.fromSupplier(() -> jwtTokenVerifier.verify(token, exchange.getRequest().getPath().value(),
+                failureReason -> exchange.getAttributes().put(JwtFilter.FAILURE_REASON_ATTRIBUTE, failureReason)));
+    }
+
+}
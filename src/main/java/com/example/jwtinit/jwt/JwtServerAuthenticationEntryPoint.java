@@ -0,0 +1,35 @@
+package com.example.jwtinit.jwt;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@Profile("reactive") // WebFlux 가 classpath 에 없는 서블릿 배포본에서도 기동되도록
+@Component
+// WebFlux (reactive 프로파일) 의 JwtAuthenticationEntryPoint
+// 401 Unauthorized Error return, 토큰 검증 실패 사유는 WWW-Authenticate 헤더로 전달 (RFC 6750)
+public class JwtServerAuthenticationEntryPoint implements ServerAuthenticationEntryPoint {
+
+    @Override
+    public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException authException) {
+
+        ServerHttpResponse response = exchange.getResponse();
+        Object failureReason = exchange.getAttribute(JwtFilter.FAILURE_REASON_ATTRIBUTE);
+
+        if(failureReason instanceof TokenFailureReason) {
+            response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE,
+                    JwtAuthenticationEntryPoint.bearerChallenge((TokenFailureReason) failureReason));
+        }
+
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+
+        return response.setComplete();
+    }
+
+}
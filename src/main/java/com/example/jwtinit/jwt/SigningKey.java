@@ -0,0 +1,39 @@
+package com.example.jwtinit.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.security.Key;
+
+// SigningKey: kid 로 식별되는 서명/검증 키 한 쌍
+// HMAC 은 서명 키와 검증 키가 같음
+public final class SigningKey {
+
+    private final String keyId;
+    private final SignatureAlgorithm algorithm;
+    private final Key signingKey;
+    private final Key verificationKey;
+
+    public SigningKey(String keyId, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey) {
+        this.keyId = keyId;
+        this.algorithm = algorithm;
+        this.signingKey = signingKey;
+        this.verificationKey = verificationKey;
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    public Key getVerificationKey() {
+        return verificationKey;
+    }
+
+}
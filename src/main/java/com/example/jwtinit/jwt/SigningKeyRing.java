@@ -0,0 +1,104 @@
+package com.example.jwtinit.jwt;
+
+import java.security.Key;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+// SigningKeyRing: 토큰 서명/검증에 사용하는 키 목록 (불변)
+// 1. 새 토큰은 active 키로 서명하고 kid 헤더에 active 키의 ID 를 저장
+// 2. 검증 시 kid 헤더로 키를 찾음 (HashMap 조회만 수행, 할당 없음)
+//      kid 가 없는 토큰 (키 목록 도입 이전에 발행) 은 legacy 키 (jwt.secret) 로 검증
+//      legacyKey 를 null 로 만든 키 목록은 legacy 키도, kid 가 없는 토큰도 검증하지 않음 (jwt.legacy-key-enabled=false)
+// 3. 키 교체 시에는 새 SigningKeyRing 을 만들어 통째로 교체 (TokenProvider.setKeyRing())
+//      -> 이전 키를 목록에 남겨두면 이전 키로 서명된 토큰도 만료될 때까지 유효
+// 4. 검증 전용 노드 (JWKS 로 공개키만 받은 경우) 는 active 키가 없거나 서명 키가 null -> 토큰 발행 불가
+public final class SigningKeyRing {
+
+    private final Map<String, SigningKey> keys;
+    private final SigningKey activeKey;
+    private final SigningKey legacyKey;
+
+    public SigningKeyRing(Map<String, SigningKey> keys, String activeKeyId, SigningKey legacyKey) {
+
+        Map<String, SigningKey> copy = new HashMap<>(keys);
+        if(legacyKey != null) {
+            copy.putIfAbsent(legacyKey.getKeyId(), legacyKey);
+        }
+
+        this.keys = Collections.unmodifiableMap(copy);
+        this.activeKey = activeKeyId != null ? copy.get(activeKeyId) : null;
+        this.legacyKey = legacyKey;
+
+        if(activeKeyId != null && activeKey == null) {
+            throw new IllegalArgumentException("active 키가 목록에 없습니다. kid: " + activeKeyId);
+        }
+    }
+
+    // legacy 키 하나만 가진 키 목록 (legacyKey 가 null 이면 빈 목록)
+    public static SigningKeyRing of(SigningKey legacyKey) {
+        return new SigningKeyRing(Collections.emptyMap(), legacyKey != null ? legacyKey.getKeyId() : null, legacyKey);
+    }
+
+    // 새 토큰 서명에 사용할 키, 없으면 null (검증 전용)
+    public SigningKey getActiveKey() {
+        return activeKey;
+    }
+
+    // kid 로 키 조회, kid 가 없으면 legacy 키, 목록에 없는 kid 면 null
+    public SigningKey find(String keyId) {
+        return keyId == null ? legacyKey : keys.get(keyId);
+    }
+
+    public Set<String> keyIds() {
+        return keys.keySet();
+    }
+
+    public Collection<SigningKey> keys() {
+        return keys.values();
+    }
+
+    // kid 목록, active kid, kid 별 알고리즘과 검증 키 값이 모두 같으면 true
+    public boolean hasSameKeys(SigningKeyRing other) {
+
+        if(!keys.keySet().equals(other.keys.keySet())) {
+            return false;
+        }
+        if(!sameKey(activeKey, other.activeKey) || !sameKey(legacyKey, other.legacyKey)) {
+            return false;
+        }
+
+        for (SigningKey signingKey : keys.values()) {
+            if(!sameKey(signingKey, other.keys.get(signingKey.getKeyId()))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // 두 키의 kid, 알고리즘, 검증 키 값 (인코딩) 비교
+    public static boolean sameKey(SigningKey a, SigningKey b) {
+
+        if(a == null || b == null) {
+            return a == b;
+        }
+
+        return a.getKeyId().equals(b.getKeyId())
+                && a.getAlgorithm() == b.getAlgorithm()
+                && sameKey(a.getVerificationKey(), b.getVerificationKey());
+    }
+
+    private static boolean sameKey(Key a, Key b) {
+
+        if(a == null || b == null) {
+            return a == b;
+        }
+
+        return MessageDigest.isEqual(a.getEncoded(), b.getEncoded());
+    }
+
+}
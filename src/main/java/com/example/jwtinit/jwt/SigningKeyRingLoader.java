@@ -0,0 +1,132 @@
+package com.example.jwtinit.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+// SigningKeyRingLoader: 키 목록 파일을 읽어 SigningKeyRing 생성
+//
+// 1. properties 파일 (HMAC secret)
+//      active=2023-07                  # 새 토큰 서명에 사용할 kid
+//      key.2023-06=<BASE64 secret>     # key.<kid>=<BASE64 로 인코딩된 HS512 secret>
+//      key.2023-07=<BASE64 secret>
+//
+// 2. keystore 파일 (.p12, .pfx, .jks): alias 가 kid, active kid 는 jwt.key-ring-active-kid 로 지정
+// 두 형식 모두 active kid 가 없으면 legacy 키 (jwt.secret) 로 서명, legacy 키도 없으면 IOException
+//      PrivateKeyEntry: 인증서의 공개키로 검증 (RSA 2048 -> RS256, EC P-256 -> ES256 ...)
+//      SecretKeyEntry: HMAC (HS256 ~ HS512, 키 길이로 결정)
+//
+// 교체 절차
+//      1. 새 키 추가 (active 는 그대로) -> 모든 서버가 새 키로 검증 가능해질 때까지 대기
+//      2. active 를 새 키로 변경
+//      3. 이전 키로 서명된 토큰이 모두 만료된 후 (jwt.token-validity-in-seconds) 이전 키 삭제
+public final class SigningKeyRingLoader {
+
+    static final String ACTIVE_KEY = "active";
+    static final String KEY_PREFIX = "key.";
+
+    private SigningKeyRingLoader() {
+    }
+
+    public static SigningKeyRing load(Path path, SigningKey legacyKey) throws IOException {
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        Map<String, SigningKey> keys = new HashMap<>();
+
+        for (String name : properties.stringPropertyNames()) {
+            if(name.startsWith(KEY_PREFIX)) {
+                String keyId = name.substring(KEY_PREFIX.length());
+                Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(properties.getProperty(name).trim()));
+                SignatureAlgorithm.HS512.assertValidSigningKey(key); // 512 bit 미만이면 여기서 실패 (서명 시점이 아닌 로딩 시점)
+                keys.put(keyId, new SigningKey(keyId, SignatureAlgorithm.HS512, key, key));
+            }
+        }
+
+        String activeKeyId = properties.getProperty(ACTIVE_KEY);
+
+        return new SigningKeyRing(keys, activeKeyId(activeKeyId != null ? activeKeyId.trim() : null, legacyKey, path), legacyKey);
+    }
+
+    public static boolean isKeyStore(Path path) {
+        String fileName = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        return fileName.endsWith(".p12") || fileName.endsWith(".pfx") || fileName.endsWith(".jks");
+    }
+
+    public static SigningKeyRing loadKeyStore(Path path, char[] password, String activeKeyId, SigningKey legacyKey) throws IOException {
+
+        Map<String, SigningKey> keys = new HashMap<>();
+
+        try (InputStream inputStream = Files.newInputStream(path)) {
+
+            KeyStore keyStore = KeyStore.getInstance(path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".jks") ? "JKS" : "PKCS12");
+            keyStore.load(inputStream, password);
+
+            for (String alias : Collections.list(keyStore.aliases())) {
+
+                Key key = keyStore.getKey(alias, password);
+
+                if(key instanceof PrivateKey) {
+                    Key publicKey = keyStore.getCertificate(alias).getPublicKey();
+                    keys.put(alias, new SigningKey(alias, SignatureAlgorithm.forSigningKey(key), key, publicKey));
+                }else if(key instanceof SecretKey) {
+                    keys.put(alias, new SigningKey(alias, SignatureAlgorithm.forSigningKey(key), key, key));
+                }
+            }
+
+        } catch (GeneralSecurityException e) {
+            throw new IOException("keystore 를 읽을 수 없습니다. " + e.getMessage(), e);
+        }
+
+        return new SigningKeyRing(keys, activeKeyId(activeKeyId, legacyKey, path), legacyKey);
+    }
+
+    // active kid 를 지정하지 않으면 legacy 키 (jwt.secret) 로 서명, legacy 키도 없으면 토큰을 발행할 수 없으므로 실패
+    private static String activeKeyId(String activeKeyId, SigningKey legacyKey, Path path) throws IOException {
+
+        if(activeKeyId != null && !activeKeyId.isEmpty()) {
+            return activeKeyId;
+        }
+        if(legacyKey != null) {
+            return legacyKey.getKeyId();
+        }
+
+        throw new IOException("active kid 를 정할 수 없습니다. " + path
+                + " 에 active 를 지정하거나 (keystore 는 jwt.key-ring-active-kid) jwt.legacy-key-enabled=true 로 설정하세요.");
+    }
+
+    // 새 키 쌍 생성 (RS256, ES256 ...), HMAC 이면 새 secret 생성
+    //      재시작하면 사라지므로 개발/단일 노드용 (발행 서버가 여러 대면 keystore 로 같은 키를 공유)
+    public static SigningKey generate(String keyId, SignatureAlgorithm algorithm) {
+
+        if(algorithm.isHmac()) {
+            Key key = Keys.secretKeyFor(algorithm);
+            return new SigningKey(keyId, algorithm, key, key);
+        }
+
+        KeyPair keyPair = Keys.keyPairFor(algorithm);
+        return new SigningKey(keyId, algorithm, keyPair.getPrivate(), keyPair.getPublic());
+    }
+
+}
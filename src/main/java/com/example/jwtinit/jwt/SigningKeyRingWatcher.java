@@ -0,0 +1,164 @@
+package com.example.jwtinit.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// SigningKeyRingWatcher: TokenProvider 의 키 목록을 적재하고 재시작 없이 교체
+// 키 목록 출처 (우선순위 순)
+// 1. jwt.jwks-uri: 검증 전용 노드. 발행 서버의 JWKS 에서 공개키만 받아옴 (서명 키 없음 -> 토큰 발행 불가)
+// 2. jwt.key-ring-file: properties (HMAC secret) 또는 keystore (.p12, .pfx, .jks) 파일, 수정 시각이 바뀌면 다시 읽음
+// 3. jwt.signing-algorithm 이 RS256, ES256 등 비대칭이면 기동 시 키 쌍 생성 (재시작하면 바뀜, 개발/단일 노드용)
+// 4. 모두 지정하지 않으면 jwt.secret (HS512) 하나만 사용
+// jwt.legacy-key-enabled (기본 true): 위 1~3 의 키 목록에 legacy 키 (jwt.secret) 를 포함할지 여부
+//      false 면 legacy 키와 kid 가 없는 토큰 (키 목록 도입 이전에 발행) 을 더 이상 검증하지 않음 (legacy 키 폐기)
+//      1~3 을 지정하지 않으면 jwt.secret 이 유일한 키이므로 이 값과 관계없이 사용
+// 다시 읽다가 실패하면 기존 키 목록 유지 (기동 시 파일 오류는 실패)
+// 키가 삭제되거나 같은 kid 의 키 값이 바뀌면 해당 키로 검증된 캐시 결과도 무효이므로 VerifiedTokenCache 를 비움
+@Slf4j
+@Component
+public class SigningKeyRingWatcher implements InitializingBean {
+
+    // 기동 시 생성한 키의 kid
+    static final String GENERATED_KEY_ID = "generated";
+
+    private static final int JWKS_TIMEOUT_MILLIS = 5000;
+
+    private final TokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Path keyRingFile;
+    private final char[] keyRingPassword;
+    private final String activeKeyId;
+    private final SignatureAlgorithm signingAlgorithm;
+    private final String jwksUri;
+    private final boolean legacyKeyEnabled;
+    private final RestTemplate restTemplate;
+
+    // 새 키 목록에 포함할 legacy 키 (jwt.legacy-key-enabled=false 이거나 jwt.secret 이 없으면 null)
+    private SigningKey legacyKey;
+    private FileTime lastModified;
+
+    public SigningKeyRingWatcher(TokenProvider tokenProvider, VerifiedTokenCache verifiedTokenCache
+                               , @Value("${jwt.key-ring-file:}") String keyRingFile
+                               , @Value("${jwt.key-ring-password:}") String keyRingPassword
+                               , @Value("${jwt.key-ring-active-kid:}") String activeKeyId
+                               , @Value("${jwt.signing-algorithm:HS512}") String signingAlgorithm
+                               , @Value("${jwt.jwks-uri:}") String jwksUri
+                               , @Value("${jwt.legacy-key-enabled:true}") boolean legacyKeyEnabled) {
+        this.tokenProvider = tokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.keyRingFile = StringUtils.hasText(keyRingFile) ? Paths.get(keyRingFile) : null;
+        this.keyRingPassword = keyRingPassword.toCharArray();
+        this.activeKeyId = StringUtils.hasText(activeKeyId) ? activeKeyId : null;
+        this.signingAlgorithm = SignatureAlgorithm.forName(signingAlgorithm);
+        this.jwksUri = StringUtils.hasText(jwksUri) ? jwksUri : null;
+        this.legacyKeyEnabled = legacyKeyEnabled;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(JWKS_TIMEOUT_MILLIS);
+        requestFactory.setReadTimeout(JWKS_TIMEOUT_MILLIS);
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+
+        // TokenProvider 가 jwt.secret 으로 만든 초기 키 목록의 legacy 키
+        this.legacyKey = legacyKeyEnabled ? tokenProvider.getKeyRing().find(null) : null;
+
+        if(jwksUri != null) {
+            reload(); // 발행 서버가 아직 떠있지 않을 수 있으므로 실패해도 기동은 계속 (다음 주기에 재시도)
+        }else if(keyRingFile != null) {
+            lastModified = Files.getLastModifiedTime(keyRingFile);
+            apply(load());
+        }else if(!signingAlgorithm.isHmac()) {
+            log.warn("SigningKeyRingWatcher {} 키 쌍을 기동 시 생성합니다. 재시작하면 이전 토큰은 검증할 수 없습니다.", signingAlgorithm);
+            apply(new SigningKeyRing(
+                    Collections.singletonMap(GENERATED_KEY_ID, SigningKeyRingLoader.generate(GENERATED_KEY_ID, signingAlgorithm)),
+                    GENERATED_KEY_ID, legacyKey));
+        }else if(!legacyKeyEnabled) {
+            log.warn("SigningKeyRingWatcher jwt.legacy-key-enabled=false 이지만 다른 키 목록이 없어 jwt.secret 을 계속 사용합니다.");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.key-ring-reload-interval-millis:30000}")
+    public synchronized void reload() {
+
+        try {
+
+            if(jwksUri != null) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> jwkSet = restTemplate.getForObject(jwksUri, Map.class);
+                if(jwkSet != null) {
+                    // 검증 전용 노드는 active 키 없음, jwt.secret 을 지정했다면 legacy 토큰도 검증
+                    apply(new SigningKeyRing(JwkSetConverter.fromJwkSet(jwkSet), null, legacyKey));
+                }
+                return;
+            }
+
+            if(keyRingFile == null) {
+                return;
+            }
+
+            FileTime modified = Files.getLastModifiedTime(keyRingFile);
+            if(modified.equals(lastModified)) {
+                return;
+            }
+
+            apply(load());
+            lastModified = modified;
+
+        } catch (IOException | RuntimeException e) {
+            log.warn("SigningKeyRingWatcher reload(): 키 목록을 읽지 못해 기존 키 목록 유지. {}: {}", e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    private SigningKeyRing load() throws IOException {
+        if(SigningKeyRingLoader.isKeyStore(keyRingFile)) {
+            return SigningKeyRingLoader.loadKeyStore(keyRingFile, keyRingPassword, activeKeyId, legacyKey);
+        }
+        return SigningKeyRingLoader.load(keyRingFile, legacyKey);
+    }
+
+    private void apply(SigningKeyRing keyRing) {
+
+        SigningKeyRing current = tokenProvider.getKeyRing();
+        if(jwksUri != null && current.hasSameKeys(keyRing)) {
+            return; // JWKS 는 주기마다 받아오므로 바뀐 것이 없으면 (kid, 키 값 모두) 그대로 유지
+        }
+
+        // 삭제되었거나 같은 kid 로 키 값이 바뀐 kid
+        Set<String> removed = new HashSet<>();
+        for (SigningKey signingKey : current.keys()) {
+            if(!SigningKeyRing.sameKey(signingKey, keyRing.find(signingKey.getKeyId()))) {
+                removed.add(signingKey.getKeyId());
+            }
+        }
+
+        tokenProvider.setKeyRing(keyRing);
+
+        if(!removed.isEmpty()) {
+            verifiedTokenCache.clear();
+        }
+
+        log.info("SigningKeyRingWatcher 키 목록 적용. active kid: {}, kid: {}, 삭제/변경된 kid: {}",
+                keyRing.getActiveKey() != null ? keyRing.getActiveKey().getKeyId() : null, keyRing.keyIds(), removed);
+    }
+
+}
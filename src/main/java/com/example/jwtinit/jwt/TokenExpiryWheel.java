@@ -0,0 +1,137 @@
+package com.example.jwtinit.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// TokenExpiryWheel: 토큰 만료 시각 기준 시간 버킷 (jwt.expiry-wheel.bucket-millis, 기본 1초)
+// 메모리에 토큰 단위 항목을 가진 구조 (VerifiedTokenCache, TokenRevocationList) 가 만료 시각과 함께 key 를 등록하면
+// 버킷이 지날 때 버킷 통째로 꺼내서 구독자별로 모아 한 번에 전달 -> 전체 항목을 훑지 않고 만료된 항목만 삭제
+// 1. schedule(): O(1), 만료 시각이 속한 버킷 (올림) 에 추가 -> 만료 시각 이후에만 전달됨
+// 2. advance(): 지난 버킷마다 O(1) 로 꺼냄, @Scheduled 로 버킷 간격마다 호출
+// 3. 이미 지난 버킷에 등록하면 바로 전달
+// 전달은 늦을 수 있으므로 (최대 버킷 간격 + 스케줄 지연) 구독자는 조회 시에도 만료 여부를 직접 확인해야 함
+@Component
+public class TokenExpiryWheel {
+
+    // 만료된 key 목록을 받는 구독자, now 이전에 만료된 항목만 삭제해야 함 (같은 key 가 다시 등록되었을 수 있음)
+    public interface Subscriber<K> {
+        void expired(List<K> keys, long now);
+    }
+
+    private final long bucketMillis;
+
+    // 버킷 번호 (만료 시각 / bucketMillis, 올림) -> 항목
+    private final Map<Long, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong pending = new AtomicLong();
+
+    // 이 번호까지의 버킷은 전달 완료 (advance() 만 증가시킴)
+    private volatile long processedBucket;
+
+    public TokenExpiryWheel(@Value("${jwt.expiry-wheel.bucket-millis:1000}") long bucketMillis) {
+        this.bucketMillis = bucketMillis;
+        this.processedBucket = Math.floorDiv(System.currentTimeMillis(), bucketMillis);
+    }
+
+    public <K> void schedule(Subscriber<K> subscriber, K key, long expiresAtMillis) {
+
+        long index = -Math.floorDiv(-expiresAtMillis, bucketMillis); // 올림
+        Entry entry = new Entry(subscriber, key);
+
+        if(index <= processedBucket) {
+            dispatch(List.of(entry), System.currentTimeMillis());
+            return;
+        }
+
+        Bucket bucket = buckets.computeIfAbsent(index, i -> new Bucket());
+        bucket.entries.add(entry);
+        pending.incrementAndGet();
+
+        // advance() 가 이미 이 버킷을 꺼냈다면 직접 전달
+        if(bucket.drained || index <= processedBucket) {
+            buckets.remove(index, bucket);
+            dispatch(bucket.drain(), System.currentTimeMillis());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.expiry-wheel.bucket-millis:1000}")
+    public void tick() {
+        advance(System.currentTimeMillis());
+    }
+
+    // now 까지 지난 버킷의 항목을 구독자에게 전달, 리턴: 전달한 항목 수
+    public synchronized int advance(long now) {
+
+        long target = Math.floorDiv(now, bucketMillis);
+        List<Entry> expired = new ArrayList<>();
+
+        for (long index = processedBucket + 1; index <= target; index++) {
+            processedBucket = index; // 꺼내기 전에 갱신 -> 이후 schedule() 은 직접 전달
+            Bucket bucket = buckets.remove(index);
+            if(bucket != null) {
+                bucket.drained = true;
+                expired.addAll(bucket.drain());
+            }
+        }
+
+        dispatch(expired, now);
+
+        return expired.size();
+    }
+
+    // 아직 전달되지 않은 항목 수
+    public long pendingCount() {
+        return pending.get();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void dispatch(List<Entry> entries, long now) {
+
+        if(entries.isEmpty()) {
+            return;
+        }
+
+        Map<Subscriber, List<Object>> bySubscriber = new IdentityHashMap<>();
+        for (Entry entry : entries) {
+            bySubscriber.computeIfAbsent(entry.subscriber, s -> new ArrayList<>()).add(entry.key);
+        }
+
+        bySubscriber.forEach((subscriber, keys) -> subscriber.expired(keys, now));
+    }
+
+    private static final class Entry {
+
+        private final Subscriber<?> subscriber;
+        private final Object key;
+
+        private Entry(Subscriber<?> subscriber, Object key) {
+            this.subscriber = subscriber;
+            this.key = key;
+        }
+    }
+
+    private final class Bucket {
+
+        private final ConcurrentLinkedQueue<Entry> entries = new ConcurrentLinkedQueue<>();
+        private volatile boolean drained;
+
+        private List<Entry> drain() {
+            List<Entry> drainedEntries = new ArrayList<>();
+            Entry entry;
+            while ((entry = entries.poll()) != null) {
+                drainedEntries.add(entry);
+            }
+            pending.addAndGet(-drainedEntries.size());
+            return drainedEntries;
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.example.jwtinit.jwt;
+
+// 토큰 검증 실패 사유
+// validateToken() 의 catch 분기를 그대로 타입으로 옮긴 것
+public enum TokenFailureReason {
+
+    INVALID_SIGNATURE("잘못된 JWT 서명입니다."),
+    MALFORMED("잘못된 형식의 JWT 토큰입니다."),
+    EXPIRED("만료된 JWT 토큰입니다."),
+    NOT_YET_VALID("아직 사용할 수 없는 JWT 토큰입니다."),
+    TOO_OLD("최대 사용 기간이 지난 JWT 토큰입니다."),
+    MISSING_CLAIM("필수 Claim (exp, iat) 이 없는 JWT 토큰입니다."),
+    UNKNOWN_AUTHORITY_VERSION("알 수 없는 권한 비트마스크 버전입니다."),
+    UNSUPPORTED("지원되지 않는 JWT 토큰입니다."),
+    REVOKED("폐기된 JWT 토큰입니다."),
+    ILLEGAL_ARGUMENT("JWT 토큰이 잘못되었습니다."),
+    UNKNOWN("JWT 토큰 검증 중 오류가 발생했습니다.");
+
+    private final String message;
+
+    TokenFailureReason(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+}
@@ -2,75 +2,212 @@ package com.example.jwtinit.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.PrematureJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Serializer;
+import io.jsonwebtoken.jackson.io.JacksonSerializer;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+import java.nio.ByteBuffer;
 import java.security.Key;
-import java.util.Arrays;
-import java.util.Collection;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 // TokenProvider: 토큰의 생성, 유효성 검증 등을 담당
-// 1. Override afterPropertiesSet(): 주입 받은 secret 값을 BASE64 로 Decode 후, key(jwt) 변수에 할당
+// 1. Override afterPropertiesSet(): 주입 받은 secret 값을 BASE64 로 Decode 후, legacy 키로 SigningKeyRing 생성
 // 2. createToken(): Authentication (권한) 객체를 이용해 Token 생성
-// 3. getAuthentication(): Token 을 사용해 Authentication 객체 얻기 ( return 유저객체, 토근, 권핞 정보 )
+// 3. getAuthentication(): Token 을 사용해 Authentication 객체 얻기 ( return JwtAuthenticationToken: 유저명, 권한 정보, 발행/만료 일자 )
 // 4. validateToken(): Token 의 유효성 검증
+// 5. parseToken(): 서명 검증 + Claim 파싱을 한 번에 수행하고 TokenValidationResult 리턴
+// 6. 서명 키는 SigningKeyRing 으로 관리: active 키로 서명하고 kid 헤더 저장, 검증 시 kid 로 키 선택
+//      jwt.secret 은 legacy 키 (kid: default) 로 항상 포함, 키 목록 파일은 SigningKeyRingWatcher 가 적재/교체
+// 7. 발행: iat, nbf (= 발행 시각), exp (= 발행 시각 + jwt.token-validity-in-seconds)
+//    검증: exp, iat 가 없는 토큰은 거절 (MISSING_CLAIM)
+//          exp, nbf 는 서버 간 시계 차이 jwt.clock-skew-seconds (기본 30초) 만큼 허용, iat 가 미래인 토큰도 같은 기준으로 거절 (NOT_YET_VALID)
+//          jwt.max-token-age-seconds (0: 사용 안 함) 를 지정하면 exp 와 관계없이 iat 기준 최대 사용 기간을 넘은 토큰 거절 (TOO_OLD)
+//          -> 유효 시간을 길게 발행했던 이전 토큰, 설정 변경 전에 발행된 토큰의 사용 기간을 제한
+// 8. 압축 토큰 (jwt.compact-authorities=true, 모바일 등 느린 회선에서 요청마다 보내는 헤더 크기 절감)
+//      auth Claim 대신 AuthorityBitmask 의 비트마스크 (am) + 버전 (av), jti 는 UUID 16 바이트의 Base64URL (36 -> 22 자)
+//      nbf 는 iat 와 같으므로 생략 (iat 가 미래인 토큰은 validateLifetime() 이 거절)
+//      검증 시에는 설정과 관계없이 두 형식 모두 해석, 알 수 없는 버전/비트는 거절 (UNKNOWN_AUTHORITY_VERSION)
+//      AuthorityBitmask 가 아직 없거나 테이블에 없는 권한이 있으면 auth Claim 으로 발행
 @Slf4j
 @Component
 public class TokenProvider implements InitializingBean {
 
     private static final String AUTHORITIES_KEY = "auth";
+    private static final String AUTHORITY_MASK_KEY = "am";
+    private static final String AUTHORITY_VERSION_KEY = "av";
+    private static final SignatureAlgorithm SIGNATURE_ALGORITHM = SignatureAlgorithm.HS512;
+    // jwt.secret 으로 만든 legacy 키의 kid
+    public static final String DEFAULT_KEY_ID = "default";
+    // 서로 다른 auth Claim 값의 최대 등록 개수
+    static final int MAX_AUTHORITY_SETS = 256;
+    // 해석할 수 있는 AuthorityBitmask 버전 수 (권한 테이블 변경 전에 발행된 토큰용)
+    private static final int MAX_AUTHORITY_VERSIONS = 4;
     private final String secret;
     private final long tokenValidityInMilliseconds;
+    private final long clockSkewSeconds;
+    private final long maxTokenAgeMilliseconds;
+    private final boolean compactAuthorities;
 
-    private Key key;
+    // 키 교체 시 통째로 교체 (요청 스레드는 volatile 읽기만 수행)
+    private volatile SigningKeyRing keyRing;
 
-    public TokenProvider(@Value("${jwt.secret}") String secret
-                        , @Value("${jwt.token-validity-in-seconds}") long tokenValidityInMilliseconds) {
+    // afterPropertiesSet() 에서 한 번만 생성하고 모든 요청 스레드가 공유 (JwtParser 는 불변, thread-safe)
+    private JwtParser jwtParser;
+    // JwtBuilder 는 상태를 가지므로 공유할 수 없지만, Serializer 는 thread-safe 하므로 재사용
+    //      (지정하지 않으면 compact() 마다 ServiceLoader 로 Serializer 를 새로 찾아 생성함)
+    private Serializer<Map<String, ?>> serializer;
+
+    // auth Claim 값 별로 공유되는 불변 권한 목록
+    private final AuthorityRegistry authorityRegistry = new AuthorityRegistry(MAX_AUTHORITY_SETS);
+
+    // 압축 토큰 발행에 사용하는 최신 AuthorityBitmask, 버전 -> AuthorityBitmask (교체 시 통째로 교체)
+    private volatile AuthorityBitmask authorityBitmask;
+    private volatile Map<Integer, AuthorityBitmask> authorityBitmasks = Collections.emptyMap();
+
+    @Autowired
+    public TokenProvider(@Value("${jwt.secret:}") String secret
+                        , @Value("${jwt.token-validity-in-seconds}") long tokenValidityInMilliseconds
+                        , @Value("${jwt.clock-skew-seconds:30}") long clockSkewSeconds
+                        , @Value("${jwt.max-token-age-seconds:0}") long maxTokenAgeSeconds
+                        , @Value("${jwt.compact-authorities:false}") boolean compactAuthorities) {
         this.secret = secret;
         this.tokenValidityInMilliseconds = tokenValidityInMilliseconds * 1000;
+        this.clockSkewSeconds = clockSkewSeconds;
+        this.maxTokenAgeMilliseconds = maxTokenAgeSeconds * 1000;
+        this.compactAuthorities = compactAuthorities;
+    }
+
+    public TokenProvider(String secret, long tokenValidityInSeconds, long clockSkewSeconds, long maxTokenAgeSeconds) {
+        this(secret, tokenValidityInSeconds, clockSkewSeconds, maxTokenAgeSeconds, false);
+    }
+
+    public TokenProvider(String secret, long tokenValidityInSeconds) {
+        this(secret, tokenValidityInSeconds, 0, 0);
     }
 
     @Override
     public void afterPropertiesSet() throws Exception {
-        byte[] keyBytes = Decoders.BASE64.decode(secret); // 주입 받은 secret 값을 BASE64 decode 후, key 변수에 할당
-        this.key = Keys.hmacShaKeyFor(keyBytes);
+        // 주입 받은 secret 값을 BASE64 decode 후, legacy 키로 사용
+        //      검증 전용 노드 (공개키만 사용) 는 jwt.secret 을 지정하지 않음 -> SigningKeyRingWatcher 가 키 목록 적재
+        SigningKey legacyKey = null;
+        if(StringUtils.hasText(secret)) {
+            Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+            legacyKey = new SigningKey(DEFAULT_KEY_ID, SIGNATURE_ALGORITHM, key, key);
+        }
+        this.keyRing = SigningKeyRing.of(legacyKey);
+
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeyRingResolver()) // kid 헤더로 검증 키 선택
+                .setAllowedClockSkewSeconds(clockSkewSeconds) // exp, nbf 검증 시 허용 오차
+                .build();
+        this.serializer = new JacksonSerializer<>();
+    }
+
+    // 키 목록 교체 (이후 발행되는 토큰은 새 active 키로 서명)
+    public void setKeyRing(SigningKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    public SigningKeyRing getKeyRing() {
+        return keyRing;
+    }
+
+    // AuthorityBitmask 교체 (이전 버전은 MAX_AUTHORITY_VERSIONS 개까지 계속 해석)
+    public synchronized void setAuthorityBitmask(AuthorityBitmask authorityBitmask) {
+
+        Map<Integer, AuthorityBitmask> bitmasks = new LinkedHashMap<>(authorityBitmasks);
+        bitmasks.remove(authorityBitmask.getVersion());
+        bitmasks.put(authorityBitmask.getVersion(), authorityBitmask);
+
+        Iterator<Integer> oldest = bitmasks.keySet().iterator();
+        while (bitmasks.size() > MAX_AUTHORITY_VERSIONS) {
+            oldest.next();
+            oldest.remove();
+        }
+
+        this.authorityBitmasks = Collections.unmodifiableMap(bitmasks);
+        this.authorityBitmask = authorityBitmask;
+    }
+
+    public AuthorityBitmask getAuthorityBitmask() {
+        return authorityBitmask;
     }
 
     // Authentication 객체를 이용해 Token 생성
     public String createToken(Authentication authentication) {
 
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
+        SigningKey signingKey = keyRing.getActiveKey();
+
+        if(signingKey == null || signingKey.getSigningKey() == null) {
+            throw new IllegalStateException("서명 키가 없습니다. (검증 전용 노드)");
+        }
 
         long now = (new Date()).getTime();
         Date validity = new Date(now + this.tokenValidityInMilliseconds);
 
+        AuthorityBitmask bitmask = compactAuthorities ? authorityBitmask : null;
+        long mask = bitmask != null ? bitmask.encode(authentication.getAuthorities()) : -1;
+
+        if(mask >= 0) {
+            return Jwts.builder()
+                    .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKeyId())
+                    .setId(compactTokenId())
+                    .setSubject(authentication.getName())
+                    .claim(AUTHORITY_MASK_KEY, mask)
+                    .claim(AUTHORITY_VERSION_KEY, bitmask.getVersion())
+                    .setIssuedAt(new Date(now))
+                    .setExpiration(validity)
+                    .signWith(signingKey.getSigningKey(), signingKey.getAlgorithm())
+                    .serializeToJsonWith(serializer)
+                    .compact();
+        }
+
+        String authorities = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKeyId()) // 검증 시 키 선택에 사용
                 // payload 구성
+                .setId(UUID.randomUUID().toString()) // 토큰 ID (jti), 토큰 단위 폐기에 사용
                 .setSubject(authentication.getName())
                 .claim(AUTHORITIES_KEY, authorities)
-                .setIssuedAt(validity) // 토큰 발행 일자 저장
+                .setIssuedAt(new Date(now)) // 토큰 발행 일자 저장
+                .setNotBefore(new Date(now)) // 이 시각 이전에는 사용 불가
+                .setExpiration(validity) // 토큰 만료 일자 저장 (짧게 유지하고 Refresh Token 으로 재발급)
                 
                 // signature 구성
 //                .signWith(key, SignatureAlgorithm.HS512) // signWith(암호화 알고리즘, 암복호화에 사용할 키)
-                .signWith(key, SignatureAlgorithm.HS512) // signWith(암호화 알고리즘, 암복호화에 사용할 키)
+                .signWith(signingKey.getSigningKey(), signingKey.getAlgorithm()) // signWith(암호화 알고리즘, 암복호화에 사용할 키)
+                .serializeToJsonWith(serializer)
                 .compact() // 토큰 생성
                 ;
     }
@@ -79,45 +216,174 @@ public class TokenProvider implements InitializingBean {
     //      Token 으로 Claim 생성 후, 이를 이욯해 유저 객체 생성해서 Authentication 객체 리턴
     public Authentication getAuthentication(String token) {
 
-        Claims claims = Jwts.parserBuilder()
-                            .setSigningKey(key)
-                            .build()
-                            .parseClaimsJws(token)
-                            .getBody();
+        TokenValidationResult result = parseToken(token);
 
+        if(!result.isValid()) {
+            throw new IllegalArgumentException(result.getFailureReason().getMessage());
+        }
 
-        Collection< ? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
+        Authentication authentication = getAuthentication(result.getClaims());
 
-         User principal = new User(claims.getSubject(), "", authorities);
+        if(authentication == null) {
+            throw new IllegalArgumentException(TokenFailureReason.UNKNOWN_AUTHORITY_VERSION.getMessage());
+        }
 
-        //                                             유저객체     토큰   권한정보
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        return authentication;
+    }
+
+    // 이미 검증된 Claims 를 이용해 Authentication 객체 리턴 (서명 재검증 없음)
+    //      UserDetails.User 대신 Claim 값만 담은 불변 JwtAuthenticationToken 리턴 (원본 토큰은 보관하지 않음)
+    //      parseToken() 이후 권한 비트마스크 버전이 제거된 경우 null 리턴 (UNKNOWN_AUTHORITY_VERSION 으로 거부)
+    public Authentication getAuthentication(Claims claims) {
+
+        List<GrantedAuthority> authorities;
+
+        Integer version = claims.get(AUTHORITY_VERSION_KEY, Integer.class);
+        if(version != null) {
+            // 비트는 parseToken() 에서 확인, 버전은 그 사이 setAuthorityBitmask() 로 밀려났을 수 있으므로 다시 확인
+            AuthorityBitmask bitmask = authorityBitmasks.get(version);
+            if(bitmask == null) {
+                log.debug("TokenProvider getAuthentication(): 검증 이후 제거된 권한 비트마스크 버전입니다. av: {}", version);
+                return null;
+            }
+            authorities = bitmask.decode(claims.get(AUTHORITY_MASK_KEY, Long.class));
+        }else {
+            authorities = authorityRegistry.resolve(claims.get(AUTHORITIES_KEY, String.class));
+        }
+
+        return new JwtAuthenticationToken(claims.getId(), claims.getSubject(), authorities, toInstant(claims.getIssuedAt()), toInstant(getExpiration(claims)));
+    }
+
+    // 실제 만료 시각: exp 와 iat + jwt.max-token-age-seconds 중 빠른 시점 (캐시, 폐기 목록의 보관 기간)
+    public Date getExpiration(Claims claims) {
+
+        Date expiration = claims.getExpiration();
+
+        if(maxTokenAgeMilliseconds > 0 && claims.getIssuedAt() != null) {
+            long maxAgeExpiration = claims.getIssuedAt().getTime() + maxTokenAgeMilliseconds;
+            if(expiration == null || maxAgeExpiration < expiration.getTime()) {
+                return new Date(maxAgeExpiration);
+            }
+        }
+
+        return expiration;
     }
 
     // Token 유효성 검증 수행
     public boolean validateToken(String token) {
+        return parseToken(token).isValid();
+    }
+
+    // UUID 16 바이트의 Base64URL (패딩 없음, 22 자)
+    private static String compactTokenId() {
+        UUID uuid = UUID.randomUUID();
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+
+    // Token 서명 검증과 Claim 파싱을 한 번에 수행
+    //      검증된 Claims 또는 실패 사유를 담은 TokenValidationResult 리턴
+    public TokenValidationResult parseToken(String token) {
 
         try {
 
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            TokenValidationResult result = validateLifetime(claims);
+            return result.isValid() ? validateAuthorities(claims) : result;
 
-        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
-            log.info("TokenProvider validateToken() SecurityException | MalformedJwtException {} 잘못된 JWT 서명입니다.");
+        } catch (io.jsonwebtoken.security.SecurityException e) {
+            log.debug("TokenProvider parseToken() SecurityException: 잘못된 JWT 서명입니다.");
+            return TokenValidationResult.invalid(TokenFailureReason.INVALID_SIGNATURE);
+        } catch (MalformedJwtException e) {
+            log.debug("TokenProvider parseToken() MalformedJwtException: 잘못된 형식의 JWT 토큰입니다.");
+            return TokenValidationResult.invalid(TokenFailureReason.MALFORMED);
         } catch (ExpiredJwtException e) {
-            log.info("TokenProvider validateToken() UnsupportedJwtException {} 만료된 JWT 토큰입니다.");
+            log.debug("TokenProvider parseToken() ExpiredJwtException: 만료된 JWT 토큰입니다.");
+            return TokenValidationResult.invalid(TokenFailureReason.EXPIRED);
+        } catch (PrematureJwtException e) {
+            log.debug("TokenProvider parseToken() PrematureJwtException: 아직 사용할 수 없는 JWT 토큰입니다.");
+            return TokenValidationResult.invalid(TokenFailureReason.NOT_YET_VALID);
         } catch (UnsupportedJwtException e) {
-            log.info("TokenProvider validateToken() UnsupportedJwtException {} 지원되지 않는 JWT 토큰입니다.");
+            log.debug("TokenProvider parseToken() UnsupportedJwtException: 지원되지 않는 JWT 토큰입니다.");
+            return TokenValidationResult.invalid(TokenFailureReason.UNSUPPORTED);
         } catch (IllegalArgumentException e) {
-            log.info("TokenProvider validateToken() IllegalArgumentException {} JWT 토큰이 잘못되었습니다.");
+            log.debug("TokenProvider parseToken() IllegalArgumentException: JWT 토큰이 잘못되었습니다.");
+            return TokenValidationResult.invalid(TokenFailureReason.ILLEGAL_ARGUMENT);
         } catch (Exception e) {
-            log.info("TokenProvider validateToken() Exception {} Exception");
+            log.debug("TokenProvider parseToken() Exception: {}", e.getClass().getSimpleName());
+            return TokenValidationResult.invalid(TokenFailureReason.UNKNOWN);
+        }
+    }
+
+    // 서명 검증 후 exp, nbf 외의 시간 조건 확인 (exp, nbf 는 JwtParser 가 확인)
+    private TokenValidationResult validateLifetime(Claims claims) {
+
+        Date issuedAt = claims.getIssuedAt();
+
+        if(claims.getExpiration() == null || issuedAt == null) {
+            log.debug("TokenProvider parseToken(): exp 또는 iat 가 없는 JWT 토큰입니다.");
+            return TokenValidationResult.invalid(TokenFailureReason.MISSING_CLAIM);
         }
 
-        return false;
+        long now = System.currentTimeMillis();
+
+        if(issuedAt.getTime() > now + clockSkewSeconds * 1000) {
+            log.debug("TokenProvider parseToken(): iat 가 미래인 JWT 토큰입니다.");
+            return TokenValidationResult.invalid(TokenFailureReason.NOT_YET_VALID);
+        }
+
+        if(maxTokenAgeMilliseconds > 0 && now - issuedAt.getTime() > maxTokenAgeMilliseconds + clockSkewSeconds * 1000) {
+            log.debug("TokenProvider parseToken(): 최대 사용 기간이 지난 JWT 토큰입니다.");
+            return TokenValidationResult.invalid(TokenFailureReason.TOO_OLD);
+        }
+
+        return TokenValidationResult.valid(claims);
+    }
+
+    // 압축 토큰의 AuthorityBitmask 버전, 비트 확인
+    private TokenValidationResult validateAuthorities(Claims claims) {
+
+        Integer version = claims.get(AUTHORITY_VERSION_KEY, Integer.class);
+
+        if(version == null) {
+            return TokenValidationResult.valid(claims);
+        }
+
+        AuthorityBitmask bitmask = authorityBitmasks.get(version);
+        Long mask = claims.get(AUTHORITY_MASK_KEY, Long.class);
+
+        if(bitmask == null || mask == null || !bitmask.isValid(mask)) {
+            log.debug("TokenProvider parseToken(): 알 수 없는 권한 비트마스크 버전입니다. av: {}", version);
+            return TokenValidationResult.invalid(TokenFailureReason.UNKNOWN_AUTHORITY_VERSION);
+        }
+
+        return TokenValidationResult.valid(claims);
+    }
+
+    // kid 헤더로 SigningKeyRing 에서 검증 키 조회
+    //      등록되지 않은 kid, 키와 다른 alg 헤더는 SignatureException (-> INVALID_SIGNATURE)
+    private class KeyRingResolver extends SigningKeyResolverAdapter {
+
+        @Override
+        @SuppressWarnings("rawtypes") // jjwt 0.11 의 SigningKeyResolver 가 raw JwsHeader 로 선언 (JwsHeader<?> 는 override 가 아님)
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+
+            SigningKey signingKey = keyRing.find(header.getKeyId());
+
+            if(signingKey == null) {
+                throw new SignatureException("등록되지 않은 kid 입니다.");
+            }
+            if(!signingKey.getAlgorithm().getValue().equals(header.getAlgorithm())) {
+                throw new SignatureException("키와 alg 헤더가 일치하지 않습니다.");
+            }
+
+            return signingKey.getVerificationKey();
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,165 @@
+package com.example.jwtinit.jwt;
+
+import com.example.jwtinit.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// TokenRevocationList: 만료 전에 폐기된 Access Token 을 메모리에서 확인 (요청마다 DB 조회 없음)
+// 1. 토큰 단위 폐기 (로그아웃): jti 를 BloomFilter + 정확한 Set 에 저장
+//      대부분의 토큰은 폐기되지 않았으므로 BloomFilter 에서 바로 false -> Set 조회는 false positive (약 1%) 일 때만
+// 2. 발행 시각 기준 폐기 (유저 단위, 전체): revoked_before 이전에 발행(iat)된 토큰은 무효
+//      iat 는 초 단위이므로 cutoff 도 초 단위로 내림 (cutoff 와 같은 초에 발행된 토큰은 유효)
+// 3. DB 와의 동기화, 만료된 항목 정리는 TokenRevocationService 가 담당
+//      만료된 jti 는 TokenExpiryWheel 이 만료 시각이 지난 뒤 바로 삭제, prune() 은 BloomFilter 재생성과 유저 cutoff 정리
+//
+// 메모리 사용량
+//      BloomFilter: max(expected-entries, 아직 만료되지 않은 폐기 토큰 수) 건, false-positive-rate 기준 크기 (기본 100,000 건 / 1% -> 약 117 KB)
+//          -> 폐기 토큰이 expected-entries 이하이면 고정, 넘으면 prune() 재생성 시 토큰 수에 비례해 커짐 (건당 약 1.2 B)
+//      정확한 Set: 아직 만료되지 않은 폐기 토큰 수에 비례 (토큰당 약 200 B)
+//          -> Access Token 유효 시간 동안 발생한 로그아웃 수를 넘지 않음
+//      유저 cutoff: revoked_before + 토큰 유효 시간이 지나면 삭제 -> Access Token 유효 시간 동안 폐기된 유저 수를 넘지 않음
+//      폐기 토큰 수가 expected-entries 를 넘으면 다음 prune() 까지는 false positive 확률이 올라가고,
+//          prune() 이 그 수에 맞춰 BloomFilter 를 다시 만들면서 확률은 돌아오고 메모리는 위의 비율로 늘어남
+@Component
+public class TokenRevocationList {
+
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+
+    // jti -> 만료 일자
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    // username -> 이 시각 이전에 발행된 토큰은 무효
+    private final Map<String, Instant> userCutoffs = new ConcurrentHashMap<>();
+
+    // 추가/재생성은 synchronized, 조회는 lock 없이 volatile 읽기
+    private volatile BloomFilter bloomFilter;
+    private volatile Instant globalCutoff;
+
+    // null 이면 만료된 jti 는 prune() 시에만 삭제
+    private final TokenExpiryWheel expiryWheel;
+    private final TokenExpiryWheel.Subscriber<String> expirySubscriber = this::expired;
+    // 마지막 BloomFilter 재생성 이후 삭제된 jti 수
+    private final AtomicInteger removedSinceRebuild = new AtomicInteger();
+
+    @Autowired
+    public TokenRevocationList(@Value("${jwt.revocation.expected-entries:100000}") long expectedEntries
+                             , @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate
+                             , TokenExpiryWheel expiryWheel) {
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedEntries, falsePositiveRate);
+        this.expiryWheel = expiryWheel;
+    }
+
+    public TokenRevocationList(long expectedEntries, double falsePositiveRate) {
+        this(expectedEntries, falsePositiveRate, null);
+    }
+
+    // 폐기된 토큰인지 확인
+    public boolean isRevoked(JwtAuthenticationToken authentication) {
+
+        Instant issuedAt = authentication.getIssuedAt();
+
+        if(isIssuedBefore(issuedAt, globalCutoff)) {
+            return true;
+        }
+
+        if(!userCutoffs.isEmpty() && isIssuedBefore(issuedAt, userCutoffs.get(authentication.getName()))) {
+            return true;
+        }
+
+        String tokenId = authentication.getTokenId();
+
+        return tokenId != null && bloomFilter.mightContain(tokenId) && revokedTokens.containsKey(tokenId);
+    }
+
+    // 토큰 단위 폐기
+    public synchronized void revoke(String tokenId, Instant expiresAt) {
+        if(revokedTokens.put(tokenId, expiresAt) == null) {
+            bloomFilter.put(tokenId);
+            if(expiryWheel != null) {
+                expiryWheel.schedule(expirySubscriber, tokenId, expiresAt.toEpochMilli());
+            }
+        }
+    }
+
+    // 유저의 cutoff 이전에 발행된 토큰 폐기 (이미 더 늦은 cutoff 가 있으면 유지)
+    public void revokeIssuedBefore(String username, Instant cutoff) {
+        userCutoffs.merge(username, truncate(cutoff), (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    // cutoff 이전에 발행된 모든 토큰 폐기
+    public synchronized void revokeAllIssuedBefore(Instant cutoff) {
+        Instant truncated = truncate(cutoff);
+        if(globalCutoff == null || truncated.isAfter(globalCutoff)) {
+            globalCutoff = truncated;
+        }
+    }
+
+    // 만료된 항목 정리
+    //      만료된 jti 삭제 후 BloomFilter 재생성 (BloomFilter 는 삭제를 지원하지 않음)
+    //      revoked_before + maxTokenLifetimeSeconds 가 지난 유저 cutoff 는 해당 토큰이 모두 만료되었으므로 삭제
+    //      리턴: 삭제된 항목 수
+    public synchronized int prune(Instant now, long maxTokenLifetimeSeconds) {
+
+        int removed = 0;
+
+        int before = revokedTokens.size();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        int removedTokens = before - revokedTokens.size();
+
+        if(removedTokens > 0 || removedSinceRebuild.get() > 0) {
+            removedSinceRebuild.set(0);
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revokedTokens.size()), falsePositiveRate);
+            revokedTokens.keySet().forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+            removed += removedTokens;
+        }
+
+        Instant threshold = now.minusSeconds(maxTokenLifetimeSeconds);
+        before = userCutoffs.size();
+        userCutoffs.values().removeIf(cutoff -> cutoff.isBefore(threshold));
+        removed += before - userCutoffs.size();
+
+        return removed;
+    }
+
+    // TokenExpiryWheel 에서 전달받은 만료 jti 삭제
+    //      BloomFilter 에는 남아있으므로 false positive 가 약간 늘어남 -> prune() 에서 재생성
+    private void expired(List<String> tokenIds, long now) {
+        for (String tokenId : tokenIds) {
+            Instant expiresAt = revokedTokens.get(tokenId);
+            if(expiresAt != null && expiresAt.toEpochMilli() <= now && revokedTokens.remove(tokenId, expiresAt)) {
+                removedSinceRebuild.incrementAndGet();
+            }
+        }
+    }
+
+    // 폐기 토큰 수 (jti 단위)
+    public int size() {
+        return revokedTokens.size();
+    }
+
+    // 유저 cutoff 수
+    public int userCutoffCount() {
+        return userCutoffs.size();
+    }
+
+    // iat 가 없는 토큰은 cutoff 가 있으면 폐기된 것으로 처리
+    private static boolean isIssuedBefore(Instant issuedAt, Instant cutoff) {
+        return cutoff != null && (issuedAt == null || issuedAt.isBefore(cutoff));
+    }
+
+    private static Instant truncate(Instant cutoff) {
+        return cutoff.truncatedTo(ChronoUnit.SECONDS);
+    }
+
+}
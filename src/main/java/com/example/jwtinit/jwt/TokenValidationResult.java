@@ -0,0 +1,46 @@
+package com.example.jwtinit.jwt;
+
+import io.jsonwebtoken.Claims;
+
+// Token 검증 결과
+// 서명 검증과 Claim 파싱을 한 번에 수행한 결과로, 검증된 Claims 또는 실패 사유 중 하나만 가진다.
+public final class TokenValidationResult {
+
+    // 실패 결과는 사유별로 하나씩만 만들어 재사용
+    private static final TokenValidationResult[] FAILURES = new TokenValidationResult[TokenFailureReason.values().length];
+
+    static {
+        for (TokenFailureReason reason : TokenFailureReason.values()) {
+            FAILURES[reason.ordinal()] = new TokenValidationResult(null, reason);
+        }
+    }
+
+    private final Claims claims;
+    private final TokenFailureReason failureReason;
+
+    private TokenValidationResult(Claims claims, TokenFailureReason failureReason) {
+        this.claims = claims;
+        this.failureReason = failureReason;
+    }
+
+    public static TokenValidationResult valid(Claims claims) {
+        return new TokenValidationResult(claims, null);
+    }
+
+    public static TokenValidationResult invalid(TokenFailureReason failureReason) {
+        return FAILURES[failureReason.ordinal()];
+    }
+
+    public boolean isValid() {
+        return claims != null;
+    }
+
+    public Claims getClaims() {
+        return claims;
+    }
+
+    public TokenFailureReason getFailureReason() {
+        return failureReason;
+    }
+
+}
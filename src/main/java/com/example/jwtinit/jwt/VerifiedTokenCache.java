@@ -0,0 +1,264 @@
+package com.example.jwtinit.jwt;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// VerifiedTokenCache: 서명 검증이 끝난 토큰의 Authentication 객체를 보관하는 캐시
+// 1. 같은 Bearer 토큰이 반복해서 들어오면 서명 검증, Claim 파싱 없이 캐시된 Authentication 을 사용
+// 2. Key 는 원본 토큰이 아닌 SHA-256 digest (32 byte 고정 크기)
+// 3. 엔트리는 토큰의 exp 와 jwt.cache.max-ttl-seconds 중 빠른 시점에 만료되며, 만료된 엔트리는 절대 반환하지 않음
+// 4. jwt.cache.max-size 를 10% (최소 1개) 넘으면 한 번에 정리 (put 마다 전체를 훑지 않음)
+//      만료 엔트리를 먼저 삭제하고, 그래도 max-size 를 넘으면 만료 시각이 빠른 (같으면 먼저 저장된) 엔트리부터 제거
+// 5. 만료된 엔트리는 TokenExpiryWheel 이 만료 시각이 지난 뒤 모아서 삭제 (조회되지 않는 엔트리도 max-size 까지 남아있지 않음)
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final boolean enabled;
+    private final int maxSize;
+    // 이 크기에 도달하면 makeRoom() 실행 (max-size + 10%)
+    private final int sweepThreshold;
+    private final long maxTtlMillis;
+
+    private final Map<TokenDigest, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    // null 이면 만료 엔트리는 조회, makeRoom() 시에만 삭제
+    private final TokenExpiryWheel expiryWheel;
+    private final TokenExpiryWheel.Subscriber<TokenDigest> expirySubscriber = this::expired;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${jwt.cache.enabled:false}") boolean enabled
+                            , @Value("${jwt.cache.max-size:10000}") int maxSize
+                            , @Value("${jwt.cache.max-ttl-seconds:300}") long maxTtlSeconds
+                            , TokenExpiryWheel expiryWheel) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.sweepThreshold = maxSize + Math.max(1, maxSize / 10);
+        this.maxTtlMillis = maxTtlSeconds * 1000;
+        this.expiryWheel = expiryWheel;
+    }
+
+    public VerifiedTokenCache(boolean enabled, int maxSize, long maxTtlSeconds) {
+        this(enabled, maxSize, maxTtlSeconds, null);
+    }
+
+    // 캐시된 Authentication 리턴, 없거나 만료된 경우 null
+    public Authentication get(String token) {
+
+        if(!enabled) {
+            return null;
+        }
+
+        TokenDigest key = TokenDigest.of(token);
+        Entry entry = entries.get(key);
+
+        if(entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        // 만료되었거나 인증 해제된 (setAuthenticated(false)) 엔트리
+        if(entry.expiresAt <= System.currentTimeMillis() || !entry.authentication.isAuthenticated()) {
+            if(entries.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry.authentication;
+    }
+
+    // 검증된 토큰의 Authentication 저장
+    //      expiration: 토큰의 exp (없으면 max-ttl 만 적용)
+    public void put(String token, Authentication authentication, Date expiration) {
+
+        if(!enabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long expiresAt = now + maxTtlMillis;
+
+        if(expiration != null) {
+            expiresAt = Math.min(expiresAt, expiration.getTime());
+        }
+
+        if(expiresAt <= now) {
+            return;
+        }
+
+        TokenDigest key = TokenDigest.of(token);
+        entries.put(key, new Entry(authentication, expiresAt, sequence.incrementAndGet()));
+
+        if(expiryWheel != null) {
+            expiryWheel.schedule(expirySubscriber, key, expiresAt);
+        }
+
+        if(entries.size() >= sweepThreshold) {
+            makeRoom(now);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    // TokenExpiryWheel 에서 전달받은 만료 엔트리 삭제 (그 사이 다시 저장되어 만료 시각이 늦춰진 엔트리는 유지)
+    private void expired(List<TokenDigest> keys, long now) {
+        for (TokenDigest key : keys) {
+            Entry entry = entries.get(key);
+            if(entry != null && entry.expiresAt <= now && entries.remove(key, entry)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    // 만료된 엔트리를 먼저 정리하고, 여전히 max-size 를 넘으면 만료 시각이 빠른 엔트리부터 제거
+    // 한 스레드만 실행 (그 사이 다른 스레드의 put 은 기다리지 않고 저장)
+    private void makeRoom(long now) {
+
+        if(!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+
+            List<Map.Entry<TokenDigest, Entry>> live = new ArrayList<>(entries.size());
+
+            for (Map.Entry<TokenDigest, Entry> e : entries.entrySet()) {
+                if(e.getValue().expiresAt <= now) {
+                    if(entries.remove(e.getKey(), e.getValue())) {
+                        evictions.increment();
+                    }
+                }else {
+                    live.add(e);
+                }
+            }
+
+            int excess = entries.size() - maxSize;
+
+            if(excess <= 0) {
+                return;
+            }
+
+            live.sort(EVICTION_ORDER);
+
+            for (int i = 0; i < live.size() && excess > 0; i++) {
+                if(entries.remove(live.get(i).getKey(), live.get(i).getValue())) {
+                    evictions.increment();
+                    excess--;
+                }
+            }
+
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private static final Comparator<Map.Entry<TokenDigest, Entry>> EVICTION_ORDER =
+            Comparator.<Map.Entry<TokenDigest, Entry>>comparingLong(e -> e.getValue().expiresAt)
+                    .thenComparingLong(e -> e.getValue().sequence);
+
+    private static final class Entry {
+
+        private final Authentication authentication;
+        private final long expiresAt;
+        private final long sequence; // 저장 순서 (만료 시각이 같으면 먼저 저장된 엔트리부터 제거)
+
+        private Entry(Authentication authentication, long expiresAt, long sequence) {
+            this.authentication = authentication;
+            this.expiresAt = expiresAt;
+            this.sequence = sequence;
+        }
+    }
+
+    // SHA-256 digest (32 byte) 를 long 4개로 보관하는 고정 크기 Key
+    static final class TokenDigest {
+
+        private final long d0;
+        private final long d1;
+        private final long d2;
+        private final long d3;
+
+        private TokenDigest(long d0, long d1, long d2, long d3) {
+            this.d0 = d0;
+            this.d1 = d1;
+            this.d2 = d2;
+            this.d3 = d3;
+        }
+
+        static TokenDigest of(String token) {
+            ByteBuffer digest = ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenDigest(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) {
+                return true;
+            }
+            if(!(o instanceof TokenDigest)) {
+                return false;
+            }
+            TokenDigest that = (TokenDigest) o;
+            return d0 == that.d0 && d1 == that.d1 && d2 == that.d2 && d3 == that.d3;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(d0);
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.example.jwtinit.metrics;
+
+import com.example.jwtinit.jwt.TokenFailureReason;
+import com.example.jwtinit.jwt.TokenRevocationList;
+import com.example.jwtinit.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// AuthMetrics: 인증, 토큰, Repository 조회 메트릭 (/actuator/prometheus 로 노출)
+// 모든 Meter 는 생성 시 태그 조합별로 미리 등록 -> 요청마다 Tag, Meter 조회/생성 없이 필드의 Meter 에 기록만 함
+//      시간 측정은 System.nanoTime() 차이를 record(long, TimeUnit) 으로 기록 (Timer.Sample, 람다 할당 없음)
+//
+// auth.token.verification{cache=hit|miss}  토큰 검증 시간 (miss: 서명 검증 + Claim 파싱, hit: VerifiedTokenCache 조회)
+// auth.token.rejected{reason=...}          검증 실패 사유별 횟수 (TokenFailureReason)
+// auth.login{result=success|failure|rate_limited}  로그인 성공/실패/시도 제한 (LoginRateLimiter) 횟수
+// auth.repository.lookup{query=...}        유저 조회 시간 (캐시 포함, 호출 측에서 측정)
+// auth.token.cache{result=hit|miss}        VerifiedTokenCache 적중/실패 (캐시의 카운터를 그대로 노출)
+// auth.token.revoked                       메모리에 있는 폐기 토큰 수
+// BCrypt 시간은 PasswordHashingPool 의 password.hash.duration 참고
+@Component
+public class AuthMetrics {
+
+    public static final String QUERY_USER_WITH_AUTHORITIES = "userWithAuthorities";
+    public static final String QUERY_USER_PROFILE = "userProfile";
+
+    private final Timer verificationMissTimer;
+    private final Timer verificationHitTimer;
+    private final Map<TokenFailureReason, Counter> rejectedCounters = new EnumMap<>(TokenFailureReason.class);
+    private final Counter loginSuccessCounter;
+    private final Counter loginFailureCounter;
+    private final Counter loginRateLimitedCounter;
+    private final Timer userWithAuthoritiesTimer;
+    private final Timer userProfileTimer;
+
+    public AuthMetrics(MeterRegistry meterRegistry, VerifiedTokenCache verifiedTokenCache, TokenRevocationList tokenRevocationList) {
+
+        this.verificationMissTimer = verificationTimer(meterRegistry, "miss");
+        this.verificationHitTimer = verificationTimer(meterRegistry, "hit");
+
+        for (TokenFailureReason reason : TokenFailureReason.values()) {
+            rejectedCounters.put(reason, Counter.builder("auth.token.rejected")
+                    .description("검증 실패 사유별 토큰 수")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+
+        this.loginSuccessCounter = loginCounter(meterRegistry, "success");
+        this.loginFailureCounter = loginCounter(meterRegistry, "failure");
+        this.loginRateLimitedCounter = loginCounter(meterRegistry, "rate_limited");
+
+        this.userWithAuthoritiesTimer = lookupTimer(meterRegistry, QUERY_USER_WITH_AUTHORITIES);
+        this.userProfileTimer = lookupTimer(meterRegistry, QUERY_USER_PROFILE);
+
+        FunctionCounter.builder("auth.token.cache", verifiedTokenCache, VerifiedTokenCache::getHitCount)
+                .description("VerifiedTokenCache 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.token.cache", verifiedTokenCache, VerifiedTokenCache::getMissCount)
+                .description("VerifiedTokenCache 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("auth.token.revoked", tokenRevocationList, TokenRevocationList::size)
+                .description("메모리에 있는 폐기 토큰 수 (jti)")
+                .register(meterRegistry);
+    }
+
+    // 서명 검증 + Claim 파싱 시간
+    public void recordVerification(long elapsedNanos) {
+        verificationMissTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // VerifiedTokenCache 적중 시 조회 시간
+    public void recordCachedVerification(long elapsedNanos) {
+        verificationHitTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void tokenRejected(TokenFailureReason reason) {
+        rejectedCounters.get(reason).increment();
+    }
+
+    public void loginSucceeded() {
+        loginSuccessCounter.increment();
+    }
+
+    public void loginFailed() {
+        loginFailureCounter.increment();
+    }
+
+    public void loginRateLimited() {
+        loginRateLimitedCounter.increment();
+    }
+
+    // UserRepository.findOneWithAuthoritiesByUsername() 시간
+    public void recordUserWithAuthoritiesLookup(long elapsedNanos) {
+        userWithAuthoritiesTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // UserRepository.findProfileRowsByUsername() 시간
+    public void recordUserProfileLookup(long elapsedNanos) {
+        userProfileTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String cache) {
+        return Timer.builder("auth.token.verification")
+                .description("토큰 검증 시간")
+                .tag("cache", cache)
+                .register(meterRegistry);
+    }
+
+    private static Counter loginCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.login")
+                .description("로그인 시도 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String query) {
+        return Timer.builder("auth.repository.lookup")
+                .description("유저 조회 시간 (캐시 포함)")
+                .tag("query", query)
+                .register(meterRegistry);
+    }
+
+}
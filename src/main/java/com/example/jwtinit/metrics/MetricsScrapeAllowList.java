@@ -0,0 +1,41 @@
+package com.example.jwtinit.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// /actuator/prometheus 를 토큰 없이 수집할 수 있는 주소 목록 (metrics.scrape.allowed-ips, IP 또는 CIDR)
+// 목록 밖의 주소는 ADMIN 권한 토큰이 있어야 수집 가능 (SecurityConfig, ReactiveSecurityConfig)
+//      기본값은 loopback 만 허용, 운영에서는 Prometheus 서버 대역을 지정하거나 management.server.port 로 분리
+//      잘못된 주소는 시작 시 IllegalArgumentException
+@Component
+public class MetricsScrapeAllowList {
+
+    private final List<IpAddressMatcher> matchers;
+
+    public MetricsScrapeAllowList(@Value("${metrics.scrape.allowed-ips:127.0.0.1,::1}") String[] allowedIps) {
+        List<IpAddressMatcher> matchers = new ArrayList<>();
+        for (String ip : allowedIps) {
+            if (!ip.trim().isEmpty()) {
+                matchers.add(new IpAddressMatcher(ip.trim()));
+            }
+        }
+        this.matchers = Collections.unmodifiableList(matchers);
+    }
+
+    public boolean allows(String remoteAddress) {
+        if (remoteAddress == null) {
+            return false;
+        }
+        for (IpAddressMatcher matcher : matchers) {
+            if (matcher.matches(remoteAddress)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
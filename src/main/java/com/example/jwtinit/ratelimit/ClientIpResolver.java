@@ -0,0 +1,83 @@
+package com.example.jwtinit.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// 시도 제한 (LoginRateLimiter) 에 사용할 클라이언트 IP
+// 1. 직접 연결한 주소가 신뢰하는 프록시 (login.rate-limit.trusted-proxies, IP 또는 CIDR) 일 때만 X-Forwarded-For 사용
+//      그 외에는 헤더를 무시하고 연결 주소 사용 (클라이언트가 헤더를 바꿔가며 IP 제한을 피할 수 없음)
+// 2. X-Forwarded-For 는 오른쪽 (가장 가까운 프록시가 추가한 값) 부터 신뢰하는 프록시를 건너뛰고 처음 나오는 주소 사용
+//      왼쪽 값은 클라이언트가 임의로 넣을 수 있으므로 사용하지 않음
+// 3. IP 형식이 아닌 값은 DNS 조회 없이 무시하고 연결 주소 사용
+// 기본값은 신뢰하는 프록시 없음 (연결 주소만 사용), server.forward-headers-strategy=native 로 컨테이너에서 처리하는 경우에도 비워둠
+@Component
+public class ClientIpResolver {
+
+    public static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private static final Pattern IPV4 = Pattern.compile("((25[0-5]|2[0-4]\\d|1?\\d?\\d)\\.){3}(25[0-5]|2[0-4]\\d|1?\\d?\\d)");
+    private static final Pattern IPV6 = Pattern.compile("[0-9a-fA-F:.]*:[0-9a-fA-F:.]*");
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(@Value("${login.rate-limit.trusted-proxies:}") String[] trustedProxies) {
+        List<IpAddressMatcher> matchers = new ArrayList<>();
+        for (String proxy : trustedProxies) {
+            if (!proxy.trim().isEmpty()) {
+                matchers.add(new IpAddressMatcher(proxy.trim()));
+            }
+        }
+        this.trustedProxies = Collections.unmodifiableList(matchers);
+    }
+
+    // remoteAddress: 직접 연결한 주소, forwardedFor: X-Forwarded-For 헤더 값들 (여러 개면 순서대로, 없으면 null 또는 빈 목록)
+    public String resolve(String remoteAddress, List<String> forwardedFor) {
+
+        if (remoteAddress == null || !isTrustedProxy(remoteAddress) || forwardedFor == null || forwardedFor.isEmpty()) {
+            return remoteAddress;
+        }
+
+        List<String> hops = new ArrayList<>();
+        for (String header : forwardedFor) {
+            for (String hop : header.split(",")) {
+                hops.add(hop.trim());
+            }
+        }
+
+        for (int i = hops.size() - 1; i >= 0; i--) {
+            String hop = hops.get(i);
+            if (!isIpLiteral(hop)) {
+                return remoteAddress;
+            }
+            if (!isTrustedProxy(hop)) {
+                return hop;
+            }
+        }
+
+        return remoteAddress; // 모두 신뢰하는 프록시
+    }
+
+    private boolean isTrustedProxy(String address) {
+        if (!isIpLiteral(address)) {
+            return false;
+        }
+        for (IpAddressMatcher matcher : trustedProxies) {
+            if (matcher.matches(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // IpAddressMatcher 는 IP 형식이 아니면 호스트명으로 조회하므로 먼저 확인
+    private static boolean isIpLiteral(String value) {
+        return IPV4.matcher(value).matches() || IPV6.matcher(value).matches();
+    }
+
+}
@@ -0,0 +1,225 @@
+package com.example.jwtinit.ratelimit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+// InMemoryLoginAttemptStore: 노드별 메모리에 key 별 토큰 버킷 + 연속 실패 수 + 잠금 시각 저장 (LoginAttemptStore 기본 구현)
+// 1. lock-free: key 별 상태는 불변 State 를 AtomicReference 에 담고 CAS 로 교체 (같은 key 의 동시 요청도 lock 없음)
+//      토큰은 조회 시점에 경과 시간만큼 한 번에 회복 (주기 작업 없음)
+// 2. 크기 제한: key 의 hash 로 stripe 를 고르고, stripe 마다 최대 maxEntries / stripes 개
+//      stripe 가 가득 차면 그 stripe 만 훑어서 idle 항목 (버킷이 가득 차고 실패/잠금이 없는 상태 -> 삭제해도 새로 만든 것과 같음) 삭제
+//      idle 항목이 없으면 가장 먼저 idle 이 될 항목 하나를 삭제 (다수의 IP 로 가득 채우면 잠금이 풀릴 수 있음 -> max-entries 로 조정)
+// 3. evictIdle(): 주기적으로 전체 stripe 의 idle 항목 삭제
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+
+    private final List<Map<String, AtomicReference<State>>> stripes;
+    private final int stripeMask;
+    private final int maxEntriesPerStripe;
+
+    public InMemoryLoginAttemptStore(int maxEntries, int stripes) {
+
+        int stripeCount = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1; // 2 의 거듭제곱으로 올림
+
+        this.stripes = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes.add(new ConcurrentHashMap<>());
+        }
+        this.stripeMask = stripeCount - 1;
+        this.maxEntriesPerStripe = Math.max(1, maxEntries / stripeCount);
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy, long nowMillis) {
+
+        AtomicReference<State> reference = entry(key, policy, nowMillis);
+
+        while (true) {
+
+            State state = reference.get();
+
+            if(state.lockedUntil > nowMillis) {
+                return state.lockedUntil - nowMillis;
+            }
+
+            double tokens = state.tokensAt(policy, nowMillis);
+
+            if(tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / policy.getRefillPerMilli());
+            }
+
+            State next = state.with(policy, tokens - 1, nowMillis, state.failuresAt(policy, nowMillis), state.lastFailureAt, 0);
+
+            if(reference.compareAndSet(state, next)) {
+                return 0;
+            }
+        }
+    }
+
+    @Override
+    public void recordFailure(String key, RateLimitPolicy policy, long nowMillis) {
+
+        AtomicReference<State> reference = entry(key, policy, nowMillis);
+
+        while (true) {
+
+            State state = reference.get();
+
+            if(state.lockedUntil > nowMillis) {
+                return; // 이미 잠금 중
+            }
+
+            int failures = state.failuresAt(policy, nowMillis) + 1;
+            long lockedUntil = 0;
+
+            if(policy.getLockoutThreshold() > 0 && failures >= policy.getLockoutThreshold()) {
+                lockedUntil = nowMillis + policy.getLockoutMillis();
+                failures = 0; // 잠금이 풀리면 다시 처음부터 셈
+            }
+
+            State next = state.with(policy, state.tokensAt(policy, nowMillis), nowMillis, failures, nowMillis, lockedUntil);
+
+            if(reference.compareAndSet(state, next)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void recordSuccess(String key, long nowMillis) {
+
+        AtomicReference<State> reference = stripe(key).get(key);
+
+        if(reference == null) {
+            return;
+        }
+
+        while (true) {
+
+            State state = reference.get();
+
+            if(state.failures == 0) {
+                return;
+            }
+
+            State next = new State(state.tokens, state.refilledAt, 0, 0, state.lockedUntil, state.fullAt);
+
+            if(reference.compareAndSet(state, next)) {
+                return;
+            }
+        }
+    }
+
+    // 전체 stripe 의 idle 항목 삭제
+    @Scheduled(fixedDelayString = "${login.rate-limit.sweep-interval-millis:60000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        for (Map<String, AtomicReference<State>> stripe : stripes) {
+            stripe.values().removeIf(reference -> reference.get().isIdle(now));
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<String, AtomicReference<State>> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private AtomicReference<State> entry(String key, RateLimitPolicy policy, long nowMillis) {
+
+        Map<String, AtomicReference<State>> stripe = stripe(key);
+        AtomicReference<State> reference = stripe.get(key);
+
+        if(reference != null) {
+            return reference;
+        }
+
+        if(stripe.size() >= maxEntriesPerStripe) {
+            evict(stripe, nowMillis);
+        }
+
+        return stripe.computeIfAbsent(key, k -> new AtomicReference<>(State.initial(policy, nowMillis)));
+    }
+
+    private Map<String, AtomicReference<State>> stripe(String key) {
+        int hash = key.hashCode();
+        return stripes.get((hash ^ (hash >>> 16)) & stripeMask);
+    }
+
+    private static void evict(Map<String, AtomicReference<State>> stripe, long nowMillis) {
+
+        if(stripe.values().removeIf(reference -> reference.get().isIdle(nowMillis))) {
+            return;
+        }
+
+        String soonest = null;
+        long soonestFullAt = Long.MAX_VALUE;
+
+        for (Map.Entry<String, AtomicReference<State>> entry : stripe.entrySet()) {
+            long fullAt = entry.getValue().get().fullAt;
+            if(fullAt < soonestFullAt) {
+                soonest = entry.getKey();
+                soonestFullAt = fullAt;
+            }
+        }
+
+        if(soonest != null) {
+            stripe.remove(soonest);
+        }
+    }
+
+    // key 별 상태 (불변)
+    private static final class State {
+
+        private final double tokens;       // refilledAt 시점의 남은 시도 수
+        private final long refilledAt;
+        private final int failures;        // lastFailureAt 시점의 연속 실패 수
+        private final long lastFailureAt;
+        private final long lockedUntil;    // 0: 잠금 없음
+        private final long fullAt;         // 버킷이 가득 차고 실패 기록, 잠금이 모두 사라지는 시각 (이후 idle)
+
+        private State(double tokens, long refilledAt, int failures, long lastFailureAt, long lockedUntil, long fullAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+            this.failures = failures;
+            this.lastFailureAt = lastFailureAt;
+            this.lockedUntil = lockedUntil;
+            this.fullAt = fullAt;
+        }
+
+        private static State initial(RateLimitPolicy policy, long nowMillis) {
+            return new State(policy.getCapacity(), nowMillis, 0, 0, 0, nowMillis);
+        }
+
+        private State with(RateLimitPolicy policy, double tokens, long refilledAt, int failures, long lastFailureAt, long lockedUntil) {
+
+            long fullAt = refilledAt + (long) Math.ceil((policy.getCapacity() - tokens) / policy.getRefillPerMilli());
+            if(failures > 0) {
+                fullAt = Math.max(fullAt, lastFailureAt + policy.getLockoutMillis());
+            }
+            fullAt = Math.max(fullAt, lockedUntil);
+
+            return new State(tokens, refilledAt, failures, lastFailureAt, lockedUntil, fullAt);
+        }
+
+        private double tokensAt(RateLimitPolicy policy, long nowMillis) {
+            return Math.min(policy.getCapacity(), tokens + Math.max(0, nowMillis - refilledAt) * policy.getRefillPerMilli());
+        }
+
+        // lockoutMillis 동안 실패가 없었으면 연속 실패 초기화
+        private int failuresAt(RateLimitPolicy policy, long nowMillis) {
+            return failures > 0 && nowMillis - lastFailureAt < policy.getLockoutMillis() ? failures : 0;
+        }
+
+        private boolean isIdle(long nowMillis) {
+            return fullAt <= nowMillis;
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.example.jwtinit.ratelimit;
+
+// LoginAttemptStore: 로그인 시도 제한 상태 (토큰 버킷, 연속 실패 수, 잠금) 저장소
+// key 는 LoginRateLimiter 가 만든 "ip:..." / "user:..." 문자열, 정책은 호출마다 전달 (저장소는 정책을 모름)
+// 기본 구현은 노드별 메모리 (InMemoryLoginAttemptStore), 여러 노드가 상태를 공유해야 하면 이 인터페이스의 Bean 을 등록해서 교체
+//      (RateLimitConfig, login.rate-limit.store)
+// LoginRateLimiter 는 요청 스레드 (WebFlux 는 이벤트 루프) 에서 직접 호출하므로 구현은 오래 블로킹하지 않아야 함
+public interface LoginAttemptStore {
+
+    // 시도 1 회 소비: 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간 (ms)
+    long tryAcquire(String key, RateLimitPolicy policy, long nowMillis);
+
+    // 실패 기록: 연속 실패가 policy.lockoutThreshold 에 도달하면 policy.lockoutMillis 동안 잠금
+    void recordFailure(String key, RateLimitPolicy policy, long nowMillis);
+
+    // 성공 기록: 연속 실패 수 초기화 (남은 시도 횟수는 유지)
+    void recordSuccess(String key, long nowMillis);
+
+}
@@ -0,0 +1,31 @@
+package com.example.jwtinit.ratelimit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+// 로그인 시도 제한 초과 또는 잠금 -> 429 Too Many Requests + Retry-After (초)
+//      MVC (ResponseStatusExceptionResolver), WebFlux (ResponseStatusExceptionHandler) 모두 getResponseHeaders() 를 응답 헤더로 복사
+public class LoginRateLimitedException extends ResponseStatusException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public LoginRateLimitedException(long retryAfterMillis) {
+        super(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        this.retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public HttpHeaders getResponseHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return headers;
+    }
+
+}
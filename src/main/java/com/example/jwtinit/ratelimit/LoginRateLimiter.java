@@ -0,0 +1,93 @@
+package com.example.jwtinit.ratelimit;
+
+import com.example.jwtinit.metrics.AuthMetrics;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+// LoginRateLimiter: /api/authenticate 의 클라이언트 IP, username 별 시도 제한과 연속 실패 잠금
+// 인증 (유저 조회 + BCrypt) 전에 checkAllowed() 로 확인 -> 제한을 넘은 요청은 DB, BCrypt 비용 없이 429 (LoginRateLimitedException)
+// 1. IP: 한 클라이언트가 여러 username 을 시도하는 credential stuffing (login.rate-limit.ip.*)
+// 2. username: 여러 IP 에서 한 계정을 시도하는 brute force (login.rate-limit.username.*)
+//      분당 시도 수는 username 전체로 제한, 연속 실패 잠금은 (username, IP) 별
+//      -> 공격자가 실패를 반복해도 자신의 IP 만 잠기고 다른 IP 의 본인 로그인은 잠기지 않음
+// 3. 로그인 성공 시 (username, IP) 의 연속 실패만 초기화 (IP 는 다른 계정 시도와 섞여 있으므로 유지)
+// 클라이언트 IP 는 호출 측에서 ClientIpResolver 로 구함 (신뢰하는 프록시 뒤에서만 X-Forwarded-For 사용)
+// login.rate-limit.enabled=false 이면 모두 통과 (부하 테스트 등)
+@Component
+public class LoginRateLimiter {
+
+    private static final String IP_PREFIX = "ip:";
+    private static final String USERNAME_PREFIX = "user:";
+    private static final String USERNAME_IP_PREFIX = "user-ip:";
+
+    // 기본값: IP 분당 30 회 (연속 30 회), 연속 50 회 실패 시 5 분 잠금 / username 분당 5 회 (연속 10 회), 연속 10 회 실패 시 15 분 잠금
+    private static final RateLimitPolicy DEFAULT_IP_POLICY = new RateLimitPolicy(30, 30, 50, 300_000);
+    private static final RateLimitPolicy DEFAULT_USERNAME_POLICY = new RateLimitPolicy(10, 5, 10, 900_000);
+
+    private final LoginAttemptStore loginAttemptStore;
+    private final AuthMetrics authMetrics;
+    private final boolean enabled;
+    private final RateLimitPolicy ipPolicy;
+    private final RateLimitPolicy usernamePolicy;
+
+    public LoginRateLimiter(LoginAttemptStore loginAttemptStore, AuthMetrics authMetrics, Environment environment) {
+        this.loginAttemptStore = loginAttemptStore;
+        this.authMetrics = authMetrics;
+        this.enabled = environment.getProperty("login.rate-limit.enabled", Boolean.class, true);
+        this.ipPolicy = RateLimitPolicy.from(environment, "login.rate-limit.ip", DEFAULT_IP_POLICY);
+        this.usernamePolicy = RateLimitPolicy.from(environment, "login.rate-limit.username", DEFAULT_USERNAME_POLICY);
+    }
+
+    // 시도 1 회 소비, 제한을 넘었거나 잠금 중이면 LoginRateLimitedException
+    //      IP, (username, IP) 잠금에서 거절되면 username 의 시도 횟수는 소비하지 않음
+    public void checkAllowed(String clientIp, String username) {
+
+        if(!enabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+
+        long retryAfterMillis = loginAttemptStore.tryAcquire(IP_PREFIX + clientIp, ipPolicy, now);
+
+        if(retryAfterMillis == 0) {
+            retryAfterMillis = loginAttemptStore.tryAcquire(usernameIpKey(clientIp, username), usernamePolicy, now);
+        }
+
+        if(retryAfterMillis == 0) {
+            retryAfterMillis = loginAttemptStore.tryAcquire(USERNAME_PREFIX + username, usernamePolicy, now);
+        }
+
+        if(retryAfterMillis > 0) {
+            authMetrics.loginRateLimited();
+            throw new LoginRateLimitedException(retryAfterMillis);
+        }
+    }
+
+    public void loginFailed(String clientIp, String username) {
+
+        if(!enabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+
+        loginAttemptStore.recordFailure(IP_PREFIX + clientIp, ipPolicy, now);
+        loginAttemptStore.recordFailure(usernameIpKey(clientIp, username), usernamePolicy, now);
+    }
+
+    public void loginSucceeded(String clientIp, String username) {
+
+        if(!enabled) {
+            return;
+        }
+
+        loginAttemptStore.recordSuccess(usernameIpKey(clientIp, username), System.currentTimeMillis());
+    }
+
+    // IPv6 주소에도 ':' 가 있으므로 username 뒤에 IP 를 붙임
+    private static String usernameIpKey(String clientIp, String username) {
+        return USERNAME_IP_PREFIX + username + "@" + clientIp;
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.example.jwtinit.ratelimit;
+
+import org.springframework.core.env.Environment;
+
+// 키 종류 (IP, username) 별 시도 제한 정책
+// capacity: 연속으로 허용하는 시도 수 (버킷 크기), refillPerMinute: 분당 회복되는 시도 수
+// lockoutThreshold: 잠금까지의 연속 실패 수 (0: 잠금 없음), lockoutMillis: 잠금 시간이자 연속 실패를 세는 기간
+public final class RateLimitPolicy {
+
+    private final int capacity;
+    private final double refillPerMilli;
+    private final int lockoutThreshold;
+    private final long lockoutMillis;
+
+    public RateLimitPolicy(int capacity, double refillPerMinute, int lockoutThreshold, long lockoutMillis) {
+
+        if(capacity < 1 || refillPerMinute <= 0) {
+            throw new IllegalArgumentException("capacity, refill-per-minute 는 0 보다 커야 합니다.");
+        }
+
+        this.capacity = capacity;
+        this.refillPerMilli = refillPerMinute / 60_000;
+        this.lockoutThreshold = lockoutThreshold;
+        this.lockoutMillis = lockoutMillis;
+    }
+
+    // <prefix>.capacity, .refill-per-minute, .lockout-threshold, .lockout-seconds
+    public static RateLimitPolicy from(Environment environment, String prefix, RateLimitPolicy defaults) {
+        return new RateLimitPolicy(
+                environment.getProperty(prefix + ".capacity", Integer.class, defaults.capacity),
+                environment.getProperty(prefix + ".refill-per-minute", Double.class, defaults.refillPerMilli * 60_000),
+                environment.getProperty(prefix + ".lockout-threshold", Integer.class, defaults.lockoutThreshold),
+                environment.getProperty(prefix + ".lockout-seconds", Long.class, defaults.lockoutMillis / 1000) * 1000);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public double getRefillPerMilli() {
+        return refillPerMilli;
+    }
+
+    public int getLockoutThreshold() {
+        return lockoutThreshold;
+    }
+
+    public long getLockoutMillis() {
+        return lockoutMillis;
+    }
+
+}
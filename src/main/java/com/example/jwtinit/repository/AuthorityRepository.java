@@ -0,0 +1,7 @@
+package com.example.jwtinit.repository;
+
+import com.example.jwtinit.entity.Authority;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AuthorityRepository extends JpaRepository<Authority, String> {
+}
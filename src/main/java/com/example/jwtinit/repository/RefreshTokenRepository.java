@@ -0,0 +1,36 @@
+package com.example.jwtinit.repository;
+
+import com.example.jwtinit.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    // 같은 토큰으로 동시에 재발급 요청이 와도 한 번만 rotation 되도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.username = :username")
+    int revokeAllByUsername(@Param("username") String username);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.createdAt < :cutoff")
+    int revokeAllCreatedBefore(@Param("cutoff") Instant cutoff);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+
+}
@@ -0,0 +1,24 @@
+package com.example.jwtinit.repository;
+
+import com.example.jwtinit.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // 아직 만료되지 않은 폐기 토큰 (기동 시 전체 적재)
+    List<RevokedToken> findByExpiresAtAfter(Instant now);
+
+    // 마지막 동기화 이후 추가된 폐기 토큰
+    List<RevokedToken> findByRevokedAtAfter(Instant since);
+
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+
+}
@@ -0,0 +1,22 @@
+package com.example.jwtinit.repository;
+
+import com.example.jwtinit.entity.TokenRevocationCutoff;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TokenRevocationCutoffRepository extends JpaRepository<TokenRevocationCutoff, String> {
+
+    // 마지막 동기화 이후 변경된 cutoff
+    List<TokenRevocationCutoff> findByUpdatedAtAfter(Instant since);
+
+    // revoked_before 이전에 발행된 토큰이 모두 만료된 cutoff 삭제 (전체 폐기 행은 유지)
+    @Modifying
+    @Query("delete from TokenRevocationCutoff c where c.revokedBefore < :threshold and c.subject <> '" + TokenRevocationCutoff.GLOBAL_SUBJECT + "'")
+    int deleteObsolete(@Param("threshold") Instant threshold);
+
+}
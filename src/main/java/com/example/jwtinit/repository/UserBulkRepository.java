@@ -0,0 +1,127 @@
+package com.example.jwtinit.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// 대량 회원가입용 JDBC Repository
+// User 엔티티는 GenerationType.IDENTITY 를 사용하므로 JPA 로는 insert batching 이 되지 않음
+//      -> member / member_authority 를 JDBC batch 와 set 기반 쿼리로 직접 저장
+@Repository
+public class UserBulkRepository {
+
+    private static final String FIND_EXISTING_USERNAMES =
+            "select username from member where username in (:usernames)";
+
+    private static final String INSERT_MEMBER =
+            "insert into member (username, password, nickname, activated) values (?, ?, ?, ?)";
+
+    // 방금 저장한 member 의 member_id 를 username 으로 찾아 한 번에 권한 저장
+    private static final String INSERT_MEMBER_AUTHORITY =
+            "insert into member_authority (member_id, authority_name)"
+                    + " select member_id, :authorityName from member where username in (:usernames)";
+
+    private static final String COUNT_MEMBERS = "select count(*) from member";
+
+    private static final String FIND_USERNAMES_AFTER =
+            "select member_id, username from member where member_id > :memberId";
+
+    private static final String COUNT_USERNAME_AFTER =
+            "select count(*) from member where member_id > :memberId and username = :username";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public UserBulkRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 주어진 username 중 이미 가입된 username 조회 (한 번의 쿼리)
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+
+        if(usernames.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        return new HashSet<>(jdbcTemplate.queryForList(FIND_EXISTING_USERNAMES,
+                new MapSqlParameterSource("usernames", usernames), String.class));
+    }
+
+    public long countMembers() {
+        Long count = jdbcTemplate.getJdbcTemplate().queryForObject(COUNT_MEMBERS, Long.class);
+        return count != null ? count : 0;
+    }
+
+    // member_id 가 afterMemberId 보다 큰 member 의 username 을 한 행씩 전달 (목록을 메모리에 만들지 않음)
+    //      리턴: 전달한 행 중 가장 큰 member_id (없으면 afterMemberId)
+    public long forEachUsername(long afterMemberId, Consumer<String> consumer) {
+
+        long[] maxMemberId = { afterMemberId };
+
+        jdbcTemplate.query(FIND_USERNAMES_AFTER, new MapSqlParameterSource("memberId", afterMemberId), rs -> {
+            maxMemberId[0] = Math.max(maxMemberId[0], rs.getLong(1));
+            consumer.accept(rs.getString(2));
+        });
+
+        return maxMemberId[0];
+    }
+
+    // member_id 가 afterMemberId 보다 큰 member 중 username 이 있는지 (UsernameFilter 가 아직 sync 하지 않은 구간 확인)
+    public boolean existsUsernameAfter(long afterMemberId, String username) {
+        Long count = jdbcTemplate.queryForObject(COUNT_USERNAME_AFTER, new MapSqlParameterSource()
+                .addValue("memberId", afterMemberId)
+                .addValue("username", username), Long.class);
+        return count != null && count > 0;
+    }
+
+    // member insert (JDBC batch)
+    public void insertMembers(List<MemberRow> members) {
+
+        List<Object[]> batchArgs = new ArrayList<>(members.size());
+
+        for (MemberRow member : members) {
+            batchArgs.add(new Object[] { member.username, member.password, member.nickname, member.activated });
+        }
+
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_MEMBER, batchArgs);
+    }
+
+    // member_authority insert (set 기반 한 번의 쿼리)
+    public int insertAuthorities(Collection<String> usernames, String authorityName) {
+
+        if(usernames.isEmpty()) {
+            return 0;
+        }
+
+        return jdbcTemplate.update(INSERT_MEMBER_AUTHORITY, new MapSqlParameterSource()
+                .addValue("authorityName", authorityName)
+                .addValue("usernames", usernames));
+    }
+
+    // member 테이블 한 행
+    public static class MemberRow {
+
+        private final String username;
+        private final String password;
+        private final String nickname;
+        private final boolean activated;
+
+        public MemberRow(String username, String password, String nickname, boolean activated) {
+            this.username = username;
+            this.password = password;
+            this.nickname = nickname;
+            this.activated = activated;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+    }
+
+}
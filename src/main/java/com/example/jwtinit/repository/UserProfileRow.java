@@ -0,0 +1,16 @@
+package com.example.jwtinit.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 유저 정보 조회용 Projection (JPQL 생성자 표현식으로 생성)
+// 유저 1명 + 권한 1개가 한 행 (권한이 없으면 authorityName 은 null)
+@Getter
+@AllArgsConstructor
+public class UserProfileRow {
+
+    private final String username;
+    private final String nickname;
+    private final String authorityName;
+
+}
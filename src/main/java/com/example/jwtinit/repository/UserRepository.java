@@ -1,14 +1,34 @@
 package com.example.jwtinit.repository;
 
+import com.example.jwtinit.config.CacheConfig;
 import com.example.jwtinit.entity.User;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // 로그인 (UserCredentialsService, 결과는 불변 Dto 로 변환해서 캐시), 회원가입 중복 확인에 사용
     @EntityGraph(attributePaths = "authorities") // Eager 조회로 authorities 정보를 같이 가져옴
     Optional<User> findOneWithAuthoritiesByUsername(String username); // username 을 기준으로 User 정보를 가져옴 (권한 정보 포함)
 
+    // 유저 정보 조회 API 용: 엔티티 대신 username, nickname, 권한 이름만 한 번의 쿼리로 조회 (권한 별 1행)
+    // 결과 행은 불변이므로 그대로 캐시 (회원가입 시 evict)
+    @Cacheable(CacheConfig.USER_PROFILE_CACHE)
+    @Query("select new com.example.jwtinit.repository.UserProfileRow(u.username, u.nickname, a.authorityName)"
+            + " from User u left join u.authorities a"
+            + " where u.username = :username")
+    List<UserProfileRow> findProfileRowsByUsername(@Param("username") String username);
+
+    // 비밀번호 해시만 변경 (로그인 시 해시 업그레이드용, 엔티티 조회 없이 update 한 번)
+    @Modifying
+    @Query("update User u set u.password = :password where u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
+
 }
\ No newline at end of file
@@ -1,47 +1,87 @@
 package com.example.jwtinit.service;
 
+import com.example.jwtinit.config.CacheConfig;
+import com.example.jwtinit.dto.UserCredentialsDto;
+import com.example.jwtinit.metrics.AuthMetrics;
 import com.example.jwtinit.repository.UserRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component("userDetailsService")
-public class CustomUserDetailsService implements UserDetailsService {
+// UserDetailsPasswordService: 로그인 시 기존 해시가 오래된 경우 (upgradeEncoding) 새 해시로 교체
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserCredentialsService userCredentialsService;
+    private final AuthMetrics authMetrics;
+    private final UsernameFilter usernameFilter;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, UserCredentialsService userCredentialsService, AuthMetrics authMetrics, UsernameFilter usernameFilter) {
         this.userRepository = userRepository;
+        this.userCredentialsService = userCredentialsService;
+        this.authMetrics = authMetrics;
+        this.usernameFilter = usernameFilter;
     }
 
     @Override
-    @Transactional
+    // 캐시된 불변 UserCredentialsDto 로 UserDetails 생성 (조회, 변환 트랜잭션은 UserCredentialsService)
     public UserDetails loadUserByUsername(final String username) throws UsernameNotFoundException {
 
-        return userRepository.findOneWithAuthoritiesByUsername(username)
-                .map(user -> createUser(username, user))
-                .orElseThrow(() -> new UsernameNotFoundException(username + " -> 데이터베이스에서 찾을 수 없습니다."));
+        // 확실히 없는 username 은 캐시, JPA 조회 없이 바로 실패
+        if(usernameFilter.isKnownAbsent(username)) {
+            throw notFound(username);
+        }
+
+        long start = System.nanoTime();
+        Optional<UserCredentialsDto> user = userCredentialsService.findByUsername(username);
+        authMetrics.recordUserWithAuthoritiesLookup(System.nanoTime() - start);
+
+        return user
+                .map(found -> createUser(username, found))
+                .orElseThrow(() -> notFound(username));
+
+    }
+
+    private static UsernameNotFoundException notFound(String username) {
+        return new UsernameNotFoundException(username + " -> 데이터베이스에서 찾을 수 없습니다.");
+    }
+
+    // 로그인 성공 후 DaoAuthenticationProvider 가 호출 (newPassword: 현재 설정으로 새로 만든 해시)
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USER_CACHE, key = "#user.username")
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+
+        userRepository.updatePassword(user.getUsername(), newPassword);
 
+        return User.withUserDetails(user)
+                .password(newPassword)
+                .build();
     }
 
     // 로그인 시, DB에서 유저 정보, 권한 정보를 가져온다.
     // 해당 정보를 기반으로 UserDetails.User 객체를 생성하여 return
-    private User createUser(String username, com.example.jwtinit.entity.User user) {
+    private User createUser(String username, UserCredentialsDto user) {
 
         if(!user.isActivated()) {
-            throw new RuntimeException(username + " -> 활성화되어 있지 않습니다.");
+            throw new DisabledException(username + " -> 활성화되어 있지 않습니다.");
         }
 
-        List<GrantedAuthority> grantedAuthorities = user.getAuthorities().stream()
-                .map(authority -> new SimpleGrantedAuthority(authority.getAuthorityName()))
+        List<GrantedAuthority> grantedAuthorities = user.getAuthorityNames().stream()
+                .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
 
         return new User(user.getUsername(), user.getPassword(), grantedAuthorities);
@@ -0,0 +1,16 @@
+package com.example.jwtinit.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 존재하지 않거나, 만료/폐기/재사용된 Refresh Token, 삭제/비활성화된 유저의 Refresh Token -> 401 Unauthorized
+@ResponseStatus(value = HttpStatus.UNAUTHORIZED, reason = "유효하지 않은 Refresh Token 입니다.")
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+
+}
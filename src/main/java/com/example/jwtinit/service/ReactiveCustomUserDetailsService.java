@@ -0,0 +1,39 @@
+package com.example.jwtinit.service;
+
+import com.example.jwtinit.util.ReactorUtil;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsPasswordService;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Profile("reactive")
+@Component
+// WebFlux (reactive 프로파일) 용 유저 정보 조회
+// JPA 조회는 블로킹이므로 CustomUserDetailsService (캐시, 메트릭 포함) 를 boundedElastic 스케줄러에서 호출
+//      없는 유저는 빈 Mono (UserDetailsRepositoryReactiveAuthenticationManager 가 BadCredentialsException 으로 처리)
+//      UsernameFilter 확인도 sync 전 구간은 DB 조회이므로 CustomUserDetailsService 안에서 (boundedElastic) 수행
+public class ReactiveCustomUserDetailsService implements ReactiveUserDetailsService, ReactiveUserDetailsPasswordService {
+
+    private final CustomUserDetailsService customUserDetailsService;
+
+    public ReactiveCustomUserDetailsService(CustomUserDetailsService customUserDetailsService) {
+        this.customUserDetailsService = customUserDetailsService;
+    }
+
+    @Override
+    public Mono<UserDetails> findByUsername(String username) {
+
+        return ReactorUtil.fromCallable(() -> customUserDetailsService.loadUserByUsername(username))
+                .onErrorResume(UsernameNotFoundException.class, e -> Mono.empty());
+    }
+
+    // 로그인 시 기존 해시가 오래된 경우 새 해시로 교체
+    @Override
+    public Mono<UserDetails> updatePassword(UserDetails user, String newPassword) {
+        return ReactorUtil.fromCallable(() -> customUserDetailsService.updatePassword(user, newPassword));
+    }
+
+}
@@ -0,0 +1,179 @@
+package com.example.jwtinit.service;
+
+import com.example.jwtinit.entity.RefreshToken;
+import com.example.jwtinit.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.UUID;
+
+// RefreshTokenService: Refresh Token 발급, 재발급 (rotation), 재사용 탐지
+// 1. issue(): 로그인 시 새 family 로 Refresh Token 발급
+// 2. rotate(): Refresh Token 을 사용 처리하고 같은 family 로 새 Refresh Token 발급 (비밀번호 확인 없음)
+//      이미 사용된 토큰이 다시 오면 탈취로 보고 family 전체 폐기
+//      삭제/비활성화된 유저의 토큰이면 사용 처리 전에 family 전체 폐기 (같은 트랜잭션)
+// 3. 만료된 토큰은 주기적으로 삭제
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserDetailsService userDetailsService;
+    private final long refreshTokenValidityInSeconds;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, UserDetailsService userDetailsService
+                             , @Value("${jwt.refresh-token-validity-in-seconds:1209600}") long refreshTokenValidityInSeconds) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userDetailsService = userDetailsService;
+        this.refreshTokenValidityInSeconds = refreshTokenValidityInSeconds;
+    }
+
+    // 로그인 시 새 Refresh Token 발급, 원본 토큰 리턴
+    @Transactional
+    public String issue(String username) {
+        return create(username, UUID.randomUUID().toString());
+    }
+
+    // Refresh Token 재발급 (rotation)
+    //      재사용 탐지로 family 를 폐기한 경우에도 커밋되어야 하므로 InvalidRefreshTokenException 은 롤백하지 않음
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Rotation rotate(String rawToken) {
+
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("존재하지 않는 Refresh Token 입니다."));
+
+        if(refreshToken.isRevoked()) {
+            throw new InvalidRefreshTokenException("폐기된 Refresh Token 입니다.");
+        }
+
+        if(refreshToken.isUsed()) {
+            log.warn("RefreshTokenService rotate(): Refresh Token 재사용 탐지. family 폐기. username: {}", refreshToken.getUsername());
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+            throw new InvalidRefreshTokenException("이미 사용된 Refresh Token 입니다.");
+        }
+
+        if(refreshToken.getExpiresAt().isBefore(Instant.now())) {
+            throw new InvalidRefreshTokenException("만료된 Refresh Token 입니다.");
+        }
+
+        // 권한 정보는 현재 DB 기준으로 다시 조회, 토큰을 사용 처리하기 전에 확인해야 유저 문제로 토큰만 소모되는 일이 없음
+        UserDetails userDetails;
+        try {
+            userDetails = userDetailsService.loadUserByUsername(refreshToken.getUsername());
+        } catch (UsernameNotFoundException | DisabledException e) {
+            log.info("RefreshTokenService rotate(): 사용할 수 없는 유저. family 폐기. username: {}", refreshToken.getUsername());
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+            throw new InvalidRefreshTokenException("사용할 수 없는 유저의 Refresh Token 입니다.");
+        }
+
+        refreshToken.setUsed(true);
+
+        return new Rotation(userDetails.getUsername(), userDetails.getAuthorities()
+                , create(refreshToken.getUsername(), refreshToken.getFamilyId()));
+    }
+
+    // 유저의 모든 Refresh Token 폐기
+    @Transactional
+    public void revokeAll(String username) {
+        refreshTokenRepository.revokeAllByUsername(username);
+    }
+
+    // Refresh Token 이 속한 family 전체 폐기 (로그아웃), 없는 토큰이면 무시
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(refreshToken -> refreshTokenRepository.revokeFamily(refreshToken.getFamilyId()));
+    }
+
+    // cutoff 이전에 발급된 모든 Refresh Token 폐기
+    @Transactional
+    public void revokeAllCreatedBefore(Instant cutoff) {
+        refreshTokenRepository.revokeAllCreatedBefore(cutoff);
+    }
+
+    // 만료된 Refresh Token 삭제
+    @Transactional
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-cleanup-interval-millis:3600000}")
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        log.debug("RefreshTokenService deleteExpired(): {} 건 삭제", deleted);
+    }
+
+    private String create(String username, String familyId) {
+
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        Instant now = Instant.now();
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .username(username)
+                .familyId(familyId)
+                .createdAt(now)
+                .expiresAt(now.plusSeconds(refreshTokenValidityInSeconds))
+                .build());
+
+        return rawToken;
+    }
+
+    // SHA-256 hex
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.US_ASCII));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 재발급 결과 (유저명, 현재 권한, 새 Refresh Token)
+    public static class Rotation {
+
+        private final String username;
+        private final Collection<? extends GrantedAuthority> authorities;
+        private final String refreshToken;
+
+        public Rotation(String username, Collection<? extends GrantedAuthority> authorities, String refreshToken) {
+            this.username = username;
+            this.authorities = authorities;
+            this.refreshToken = refreshToken;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public Collection<? extends GrantedAuthority> getAuthorities() {
+            return authorities;
+        }
+
+        public String getRefreshToken() {
+            return refreshToken;
+        }
+    }
+
+}
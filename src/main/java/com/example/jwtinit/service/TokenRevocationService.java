@@ -0,0 +1,160 @@
+package com.example.jwtinit.service;
+
+import com.example.jwtinit.entity.RevokedToken;
+import com.example.jwtinit.entity.TokenRevocationCutoff;
+import com.example.jwtinit.jwt.JwtAuthenticationToken;
+import com.example.jwtinit.jwt.TokenRevocationList;
+import com.example.jwtinit.repository.RevokedTokenRepository;
+import com.example.jwtinit.repository.TokenRevocationCutoffRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// TokenRevocationService: Access Token 폐기를 DB (revoked_token, token_revocation_cutoff) 에 저장하고 TokenRevocationList 와 동기화
+// 1. revokeToken(): 로그아웃 (토큰 단위)
+// 2. revokeUser(): 유저의 지금까지 발행된 Access Token, Refresh Token 모두 폐기
+// 3. revokeAllIssuedBefore(): 지정 시각 이전에 발행된 모든 Access Token, Refresh Token 폐기
+// 4. 기동 시 만료되지 않은 폐기 항목을 모두 적재하고, 이후에는 다른 서버에서 추가된 항목만 주기적으로 읽어옴
+// 5. 만료된 항목은 DB, 메모리에서 주기적으로 삭제
+@Slf4j
+@Service
+public class TokenRevocationService implements InitializingBean {
+
+    // 커밋 지연, 서버 간 시계 차이를 고려해 이전 동기화 시점보다 조금 앞에서부터 다시 읽음 (중복 적용은 무해)
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final TokenRevocationList tokenRevocationList;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationCutoffRepository tokenRevocationCutoffRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final long tokenValidityInSeconds;
+
+    private volatile Instant lastSync;
+
+    public TokenRevocationService(TokenRevocationList tokenRevocationList, RevokedTokenRepository revokedTokenRepository
+                                , TokenRevocationCutoffRepository tokenRevocationCutoffRepository, RefreshTokenService refreshTokenService
+                                , @Value("${jwt.token-validity-in-seconds}") long tokenValidityInSeconds) {
+        this.tokenRevocationList = tokenRevocationList;
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenRevocationCutoffRepository = tokenRevocationCutoffRepository;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenValidityInSeconds = tokenValidityInSeconds;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+
+        Instant now = Instant.now();
+
+        revokedTokenRepository.findByExpiresAtAfter(now)
+                .forEach(revokedToken -> tokenRevocationList.revoke(revokedToken.getTokenId(), revokedToken.getExpiresAt()));
+        tokenRevocationCutoffRepository.findAll().forEach(this::apply);
+
+        lastSync = now;
+
+        log.info("TokenRevocationService 폐기 토큰 {} 건, 유저 cutoff {} 건 적재", tokenRevocationList.size(), tokenRevocationList.userCutoffCount());
+    }
+
+    // 현재 Access Token 폐기 (로그아웃)
+    //      jti 가 없는 토큰 (이전 버전에서 발행) 은 토큰 단위로 폐기할 수 없으므로 false 리턴
+    @Transactional
+    public boolean revokeToken(JwtAuthenticationToken authentication) {
+
+        if(authentication.getTokenId() == null || authentication.getExpiresAt() == null) {
+            return false;
+        }
+
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(authentication.getTokenId())
+                .username(authentication.getName())
+                .expiresAt(authentication.getExpiresAt())
+                .revokedAt(Instant.now())
+                .build());
+
+        tokenRevocationList.revoke(authentication.getTokenId(), authentication.getExpiresAt());
+
+        return true;
+    }
+
+    // 유저의 모든 토큰 폐기 (지금 이전에 발행된 Access Token, 모든 Refresh Token)
+    @Transactional
+    public void revokeUser(String username) {
+
+        Instant now = Instant.now();
+
+        saveCutoff(username, now);
+        tokenRevocationList.revokeIssuedBefore(username, now);
+        refreshTokenService.revokeAll(username);
+    }
+
+    // cutoff 이전에 발행된 모든 토큰 폐기
+    //      전역 cutoff 는 삭제되지 않으므로 미래 시각은 거부 (IllegalArgumentException)
+    @Transactional
+    public void revokeAllIssuedBefore(Instant cutoff) {
+
+        if(cutoff.isAfter(Instant.now())) {
+            throw new IllegalArgumentException("cutoff 는 현재 시각 이후일 수 없습니다: " + cutoff);
+        }
+
+        saveCutoff(TokenRevocationCutoff.GLOBAL_SUBJECT, cutoff);
+        tokenRevocationList.revokeAllIssuedBefore(cutoff);
+        refreshTokenService.revokeAllCreatedBefore(cutoff);
+    }
+
+    // 다른 서버에서 추가된 폐기 항목 동기화
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-millis:10000}")
+    public void sync() {
+
+        Instant now = Instant.now();
+        Instant since = lastSync.minus(SYNC_OVERLAP);
+
+        revokedTokenRepository.findByRevokedAtAfter(since)
+                .forEach(revokedToken -> tokenRevocationList.revoke(revokedToken.getTokenId(), revokedToken.getExpiresAt()));
+        tokenRevocationCutoffRepository.findByUpdatedAtAfter(since).forEach(this::apply);
+
+        lastSync = now;
+    }
+
+    // 만료된 폐기 항목 삭제 (DB, 메모리)
+    @Transactional
+    @Scheduled(fixedDelayString = "${jwt.revocation.prune-interval-millis:60000}")
+    public void prune() {
+
+        Instant now = Instant.now();
+
+        int deletedTokens = revokedTokenRepository.deleteExpired(now);
+        int deletedCutoffs = tokenRevocationCutoffRepository.deleteObsolete(now.minusSeconds(tokenValidityInSeconds));
+        int pruned = tokenRevocationList.prune(now, tokenValidityInSeconds);
+
+        log.debug("TokenRevocationService prune(): DB 폐기 토큰 {} 건, cutoff {} 건, 메모리 {} 건 삭제", deletedTokens, deletedCutoffs, pruned);
+    }
+
+    private void saveCutoff(String subject, Instant revokedBefore) {
+
+        TokenRevocationCutoff cutoff = tokenRevocationCutoffRepository.findById(subject)
+                .orElseGet(() -> TokenRevocationCutoff.builder().subject(subject).revokedBefore(revokedBefore).build());
+
+        if(revokedBefore.isAfter(cutoff.getRevokedBefore())) {
+            cutoff.setRevokedBefore(revokedBefore);
+        }
+        cutoff.setUpdatedAt(Instant.now());
+
+        tokenRevocationCutoffRepository.save(cutoff);
+    }
+
+    private void apply(TokenRevocationCutoff cutoff) {
+        if(TokenRevocationCutoff.GLOBAL_SUBJECT.equals(cutoff.getSubject())) {
+            tokenRevocationList.revokeAllIssuedBefore(cutoff.getRevokedBefore());
+        }else {
+            tokenRevocationList.revokeIssuedBefore(cutoff.getSubject(), cutoff.getRevokedBefore());
+        }
+    }
+
+}
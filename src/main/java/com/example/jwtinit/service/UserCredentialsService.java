@@ -0,0 +1,32 @@
+package com.example.jwtinit.service;
+
+import com.example.jwtinit.config.CacheConfig;
+import com.example.jwtinit.dto.UserCredentialsDto;
+import com.example.jwtinit.repository.UserRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// 로그인용 유저 정보 조회 (CustomUserDetailsService 에서 사용)
+// 1. 엔티티가 아닌 불변 UserCredentialsDto 를 캐시 (CacheConfig.USER_CACHE, key: username, 없는 유저도 캐시)
+// 2. 캐시 miss 시 readOnly 트랜잭션 안에서 조회 + 변환 (authorities 컬렉션 접근)
+//      캐시 interceptor 가 트랜잭션 interceptor 보다 바깥에서 실행되므로 (CacheConfig) hit 시 트랜잭션을 열지 않음
+// 3. 비밀번호 변경 (CustomUserDetailsService.updatePassword), 회원가입 시 evict
+@Service
+public class UserCredentialsService {
+
+    private final UserRepository userRepository;
+
+    public UserCredentialsService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Cacheable(CacheConfig.USER_CACHE)
+    @Transactional(readOnly = true)
+    public Optional<UserCredentialsDto> findByUsername(String username) {
+        return userRepository.findOneWithAuthoritiesByUsername(username).map(UserCredentialsDto::from);
+    }
+
+}
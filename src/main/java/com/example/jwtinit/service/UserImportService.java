@@ -0,0 +1,245 @@
+package com.example.jwtinit.service;
+
+import com.example.jwtinit.config.CacheConfig;
+import com.example.jwtinit.crypto.PasswordHashingRejectedException;
+import com.example.jwtinit.dto.BulkSignupResultDto;
+import com.example.jwtinit.dto.BulkSignupResultDto.Status;
+import com.example.jwtinit.dto.UserDto;
+import com.example.jwtinit.repository.UserBulkRepository;
+import com.example.jwtinit.repository.UserBulkRepository.MemberRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// UserImportService: 대량 회원가입 (테넌트 계정 일괄 등록)
+// 1. 입력 (UserController, ReactiveUserController 가 요청 body 를 읽으면서 넘겨주는 Iterator) 을 user-import.batch-size 단위 chunk 로 나누어 처리
+// 2. chunk 처리 순서
+//      중복 확인 (in 쿼리 한 번, UsernameFilter 에 없는 username 은 제외) -> 중복이 아닌 행만 비밀번호 해싱 (트랜잭션 밖)
+//      -> 트랜잭션 안에서는 중복 재확인 (UsernameFilter 없이 DB 로) + member JDBC batch insert + 권한 insert-select 만 수행
+//      BCrypt 를 기다리는 동안 커넥션, 트랜잭션을 붙잡지 않음
+// 3. 해싱 풀이 거절한 행 (PasswordHashingRejectedException) 은 FAILED 로 기록하고 나머지는 계속 처리
+//      재확인과 insert 사이에 다른 요청이 가입시켜 unique 제약 위반으로 chunk 가 롤백되면 재시도 (재확인에서 DUPLICATE 로 빠짐)
+//      INSERT_ATTEMPTS 번 모두 실패하면 해당 chunk 의 남은 행은 FAILED
+// 4. 행 단위 결과 (CREATED / DUPLICATE / INVALID / FAILED) 를 요청 순서대로 리턴
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final String DEFAULT_AUTHORITY = "ROLE_USER";
+    private static final int INSERT_ATTEMPTS = 3;
+
+    private final UserBulkRepository userBulkRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final UsernameFilter usernameFilter;
+    private final int batchSize;
+
+    public UserImportService(UserBulkRepository userBulkRepository, PasswordEncoder passwordEncoder, Validator validator
+                           , TransactionTemplate transactionTemplate, CacheManager cacheManager, UsernameFilter usernameFilter
+                           , @Value("${user-import.batch-size:500}") int batchSize) {
+        this.userBulkRepository = userBulkRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheManager = cacheManager;
+        this.usernameFilter = usernameFilter;
+        this.batchSize = batchSize;
+    }
+
+    // 입력을 미리 읽어둘 단위 (ReactiveUserController)
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public List<BulkSignupResultDto> signupAll(Iterator<UserDto> users) {
+
+        List<BulkSignupResultDto> results = new ArrayList<>();
+        Set<String> seen = new HashSet<>(); // 같은 요청 안에서의 중복 확인용
+
+        int index = 0;
+        Map<Integer, UserDto> chunk = new LinkedHashMap<>();
+
+        while(users.hasNext()) {
+
+            UserDto userDto = users.next();
+            int current = index++;
+
+            String invalid = validate(userDto);
+
+            if(invalid != null) {
+                results.add(new BulkSignupResultDto(current, userDto == null ? null : userDto.getUsername(), Status.INVALID, invalid));
+                continue;
+            }
+
+            if(!seen.add(userDto.getUsername())) {
+                results.add(new BulkSignupResultDto(current, userDto.getUsername(), Status.DUPLICATE, "요청 안에서 중복된 유저입니다."));
+                continue;
+            }
+
+            chunk.put(current, userDto);
+
+            if(chunk.size() >= batchSize) {
+                results.addAll(importChunk(chunk));
+                chunk = new LinkedHashMap<>();
+            }
+        }
+
+        if(!chunk.isEmpty()) {
+            results.addAll(importChunk(chunk));
+        }
+
+        results.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        return results;
+    }
+
+    // chunk 하나를 해싱한 뒤 하나의 트랜잭션으로 저장
+    private List<BulkSignupResultDto> importChunk(Map<Integer, UserDto> chunk) {
+
+        List<BulkSignupResultDto> results = new ArrayList<>(chunk.size());
+
+        // UsernameFilter 에 있을 수도 있는 username 만 DB 로 확인 (모두 확실히 없으면 쿼리 생략), 중복 행은 해싱하지 않음
+        Set<String> existing = userBulkRepository.findExistingUsernames(
+                chunk.values().stream().map(UserDto::getUsername).filter(usernameFilter::mightExist).collect(Collectors.toList()));
+
+        Map<Integer, MemberRow> hashed = new LinkedHashMap<>();
+
+        for (Map.Entry<Integer, UserDto> entry : chunk.entrySet()) {
+
+            UserDto userDto = entry.getValue();
+
+            if(existing.contains(userDto.getUsername())) {
+                results.add(duplicate(entry.getKey(), userDto.getUsername()));
+                continue;
+            }
+
+            try {
+                hashed.put(entry.getKey(), new MemberRow(userDto.getUsername(), passwordEncoder.encode(userDto.getPassword()), userDto.getNickname(), true));
+            } catch (PasswordHashingRejectedException e) {
+                results.add(new BulkSignupResultDto(entry.getKey(), userDto.getUsername(), Status.FAILED, e.getMessage()));
+            }
+        }
+
+        if(!hashed.isEmpty()) {
+            results.addAll(save(hashed));
+        }
+
+        return results;
+    }
+
+    // 하나의 트랜잭션으로 저장, 동시 가입으로 unique 제약 위반 시 다시 시도
+    private List<BulkSignupResultDto> save(Map<Integer, MemberRow> hashed) {
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> insert(hashed));
+            } catch (DataIntegrityViolationException e) {
+                if(attempt >= INSERT_ATTEMPTS) {
+                    log.warn("UserImportService save(): 동시 가입으로 {} 회 저장 실패, {} 행 FAILED", attempt, hashed.size(), e);
+                    return failed(hashed, "동시에 가입된 유저가 있어 저장하지 못했습니다. 다시 요청해주세요.");
+                }
+                log.debug("UserImportService save(): 동시 가입으로 롤백, 재시도 ({}/{})", attempt, INSERT_ATTEMPTS);
+            }
+        }
+    }
+
+    // 해싱이 끝난 행 저장 (트랜잭션 안)
+    //      해싱하는 동안 다른 요청, 노드에서 가입되었을 수 있으므로 UsernameFilter 없이 DB 로 다시 확인
+    private List<BulkSignupResultDto> insert(Map<Integer, MemberRow> hashed) {
+
+        Set<String> existing = userBulkRepository.findExistingUsernames(
+                hashed.values().stream().map(MemberRow::getUsername).collect(Collectors.toList()));
+
+        List<BulkSignupResultDto> results = new ArrayList<>(hashed.size());
+        List<MemberRow> members = new ArrayList<>(hashed.size());
+        List<String> created = new ArrayList<>(hashed.size());
+
+        for (Map.Entry<Integer, MemberRow> entry : hashed.entrySet()) {
+
+            MemberRow member = entry.getValue();
+
+            if(existing.contains(member.getUsername())) {
+                results.add(duplicate(entry.getKey(), member.getUsername()));
+                continue;
+            }
+
+            members.add(member);
+            created.add(member.getUsername());
+            results.add(new BulkSignupResultDto(entry.getKey(), member.getUsername(), Status.CREATED, null));
+        }
+
+        if(!members.isEmpty()) {
+            userBulkRepository.insertMembers(members);
+            userBulkRepository.insertAuthorities(created, DEFAULT_AUTHORITY);
+            evict(created);
+            usernameFilter.add(created);
+        }
+
+        return results;
+    }
+
+    private static BulkSignupResultDto duplicate(int index, String username) {
+        return new BulkSignupResultDto(index, username, Status.DUPLICATE, "이미 가입된 유저입니다.");
+    }
+
+    private static List<BulkSignupResultDto> failed(Map<Integer, MemberRow> hashed, String message) {
+
+        List<BulkSignupResultDto> results = new ArrayList<>(hashed.size());
+
+        for (Map.Entry<Integer, MemberRow> entry : hashed.entrySet()) {
+            results.add(new BulkSignupResultDto(entry.getKey(), entry.getValue().getUsername(), Status.FAILED, message));
+        }
+
+        return results;
+    }
+
+    // 캐시된 '없는 유저' 결과 제거 (TransactionAwareCacheManagerProxy 이므로 커밋 이후 수행)
+    private void evict(List<String> usernames) {
+
+        for (String cacheName : new String[] { CacheConfig.USER_CACHE, CacheConfig.USER_PROFILE_CACHE }) {
+
+            Cache cache = cacheManager.getCache(cacheName);
+
+            if(cache != null) {
+                usernames.forEach(cache::evict);
+            }
+        }
+    }
+
+    // 검증 실패 시 메시지, 성공 시 null
+    private String validate(UserDto userDto) {
+
+        if(userDto == null) {
+            return "유저 정보가 없습니다.";
+        }
+
+        Set<ConstraintViolation<UserDto>> violations = validator.validate(userDto);
+
+        if(violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+}
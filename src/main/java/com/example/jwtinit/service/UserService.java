@@ -1,16 +1,23 @@
 package com.example.jwtinit.service;
 
+import com.example.jwtinit.config.CacheConfig;
 import com.example.jwtinit.dto.UserDto;
+import com.example.jwtinit.dto.UserResponseDto;
 import com.example.jwtinit.entity.Authority;
 import com.example.jwtinit.entity.User;
+import com.example.jwtinit.metrics.AuthMetrics;
+import com.example.jwtinit.repository.UserProfileRow;
 import com.example.jwtinit.repository.UserRepository;
 import com.example.jwtinit.util.SecurityUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -19,16 +26,21 @@ public class UserService {
     @Autowired
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthMetrics authMetrics;
+    private final UsernameFilter usernameFilter;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, AuthMetrics authMetrics, UsernameFilter usernameFilter) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.authMetrics = authMetrics;
+        this.usernameFilter = usernameFilter;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = { CacheConfig.USER_CACHE, CacheConfig.USER_PROFILE_CACHE }, key = "#userDto.username") // 캐시된 '없는 유저' 결과 제거 (커밋 이후)
     public User signup(UserDto userDto) {
 
-        // 가입 여부 확인
+        // 가입 여부 확인 (UsernameFilter 는 다른 노드의 최근 가입을 모를 수 있으므로 항상 DB 로 확인)
         if (userRepository.findOneWithAuthoritiesByUsername(userDto.getUsername()).orElse(null) != null) {
             throw new RuntimeException("이미 가입된 유저입니다.");
         }
@@ -45,19 +57,33 @@ public class UserService {
                 .activated(true)
                 .build();
 
-        return userRepository.save(user);
+        // 동시 가입은 username unique 제약으로 실패 -> 같은 메시지로 변환 (flush 해서 이 메소드 안에서 확인)
+        User saved;
+        try {
+            saved = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("이미 가입된 유저입니다.");
+        }
+        usernameFilter.add(Collections.singleton(saved.getUsername()));
+
+        return saved;
     }
 
     // 가입된 유저 정보 조회
-    @Transactional(readOnly = true)
-    public Optional<User> getUserWithAuthorities(String username) {
-        return userRepository.findOneWithAuthoritiesByUsername(username);
+    //      엔티티 대신 Projection 으로 조회한 불변 Dto 리턴
+    //      캐시 hit 시 트랜잭션(커넥션)을 열지 않도록 @Transactional 을 두지 않음 (Repository 에서 readOnly 트랜잭션 사용)
+    public Optional<UserResponseDto> getUserProfile(String username) {
+
+        long start = System.nanoTime();
+        List<UserProfileRow> rows = userRepository.findProfileRowsByUsername(username);
+        authMetrics.recordUserProfileLookup(System.nanoTime() - start);
+
+        return UserResponseDto.from(rows);
     }
     
     // 현재 로그인한 유저의 정보 조회
-    @Transactional(readOnly = true)
-    public Optional<User> getCurrUserWithAuthorities() {
-        return SecurityUtil.getCurrUsername().flatMap(userRepository::findOneWithAuthoritiesByUsername);
+    public Optional<UserResponseDto> getCurrUserProfile() {
+        return SecurityUtil.getCurrUsername().flatMap(this::getUserProfile);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,179 @@
+package com.example.jwtinit.service;
+
+import com.example.jwtinit.repository.UserBulkRepository;
+import com.example.jwtinit.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Locale;
+
+// UsernameFilter: 가입된 username 의 BloomFilter
+// 로그인 (CustomUserDetailsService): isKnownAbsent() 가 true 이면 확실히 없는 username 이므로 캐시, JPA 조회 생략 (없는 username 으로 반복되는 시도, 오타)
+// 대량 가입 (UserImportService): mightExist() 가 false 인 username 은 사전 중복 확인 생략 (insert 전에 DB 로 다시 확인)
+// 회원가입 (UserService) 은 항상 DB 로 확인
+// 1. 기동 완료 후 (data.sql 적용 이후) member 전체로 생성, user-filter.rebuild-interval-millis 마다 새로 생성해서 교체
+//      크기는 max(user-filter.expected-entries, 가입자 수 x 2) -> 가입자가 늘어도 false positive 확률 유지
+// 2. 이 노드의 가입: 저장 시 바로 추가 (add)
+//    다른 노드의 가입: user-filter.sync-interval-millis 마다 member_id 가 마지막으로 본 값보다 큰 행 추가
+//      member_id 는 insert 시점에 정해지므로 늦게 커밋된 행을 놓치지 않도록 sync-overlap 만큼 겹쳐서 다시 읽음 (중복 추가는 무해)
+//      sync 전에는 필터에 없으므로 isKnownAbsent() 는 아직 sync 하지 않은 member_id 구간만 DB 로 확인 (PK 범위 + username)
+//      -> 다른 노드에서 가입한 직후에도 로그인 가능, 찾으면 필터에 바로 추가
+// 3. 대소문자를 구분하지 않는 DB collation 에서도 기존 조회 결과와 같도록 소문자로 저장/확인
+// 4. 생성 전, user-filter.enabled=false 이면 항상 true (모든 조회를 DB 로)
+// 탈퇴/삭제된 username 은 다음 재생성까지 남아 있음 (false positive 일 뿐 결과는 DB 가 결정)
+@Slf4j
+@Component
+public class UsernameFilter {
+
+    private final UserBulkRepository userBulkRepository;
+    private final boolean enabled;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+    private final long syncOverlap;
+
+    // null: 아직 생성 전
+    private volatile BloomFilter filter;
+    // 재생성 중인 필터 (재생성 중 추가된 username 도 함께 추가)
+    private volatile BloomFilter building;
+    // 마지막으로 읽은 가장 큰 member_id (rebuild(), sync() 는 synchronized, 필터를 갱신한 뒤 기록)
+    private volatile long lastMemberId;
+
+    public UsernameFilter(UserBulkRepository userBulkRepository
+                        , @Value("${user-filter.enabled:true}") boolean enabled
+                        , @Value("${user-filter.expected-entries:100000}") long expectedEntries
+                        , @Value("${user-filter.false-positive-rate:0.01}") double falsePositiveRate
+                        , @Value("${user-filter.sync-overlap:1000}") long syncOverlap) {
+        this.userBulkRepository = userBulkRepository;
+        this.enabled = enabled;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncOverlap = syncOverlap;
+    }
+
+    // false 이면 확실히 가입되지 않은 username
+    public boolean mightExist(String username) {
+        BloomFilter current = filter;
+        return current == null || username == null || current.mightContain(key(username));
+    }
+
+    // true 이면 확실히 가입되지 않은 username (필터에 없고, 아직 sync 하지 않은 구간에도 없음)
+    //      lastMemberId 를 필터보다 먼저 읽음 -> 읽은 lastMemberId 까지는 읽은 필터에 반영되어 있음
+    public boolean isKnownAbsent(String username) {
+
+        long syncedMemberId = lastMemberId;
+
+        if(mightExist(username)) {
+            return false;
+        }
+
+        try {
+            if(!userBulkRepository.existsUsernameAfter(Math.max(0, syncedMemberId - syncOverlap), username)) {
+                return true;
+            }
+        } catch (RuntimeException e) {
+            log.warn("UsernameFilter isKnownAbsent(): {}: {}", e.getClass().getSimpleName(), e.getMessage());
+            return false; // 확인하지 못하면 일반 조회로
+        }
+
+        add(username); // 다른 노드에서 방금 가입한 username, 다음부터는 필터로 확인
+        return false;
+    }
+
+    // 가입한 username 추가: 바로 추가하고, 트랜잭션 안이면 커밋 이후 한 번 더 추가
+    //      바로 추가: 같은 트랜잭션 안의 조회, 커밋 직후의 로그인 (롤백되어 남은 username 은 false positive 일 뿐)
+    //      커밋 이후 추가: 재생성 중 읽은 스냅샷에 아직 커밋되지 않은 행이 빠지는 경우
+    public void add(Collection<String> usernames) {
+
+        usernames.forEach(this::add);
+
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    usernames.forEach(UsernameFilter.this::add);
+                }
+            });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${user-filter.rebuild-interval-millis:3600000}"
+             , fixedDelayString = "${user-filter.rebuild-interval-millis:3600000}")
+    public synchronized void rebuild() {
+
+        if(!enabled) {
+            return;
+        }
+
+        try {
+
+            long start = System.currentTimeMillis();
+            long members = userBulkRepository.countMembers();
+
+            BloomFilter next = new BloomFilter(Math.max(expectedEntries, members * 2), falsePositiveRate);
+            building = next;
+
+            long maxMemberId = userBulkRepository.forEachUsername(0, username -> next.put(key(username)));
+
+            filter = next;
+            lastMemberId = maxMemberId;
+
+            log.info("UsernameFilter 생성. 가입자 {} 명, {} ms", members, System.currentTimeMillis() - start);
+
+        } catch (RuntimeException e) {
+            log.warn("UsernameFilter rebuild(): member 를 읽지 못해 기존 필터 유지. {}: {}", e.getClass().getSimpleName(), e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    // 다른 노드에서 가입한 username 추가
+    @Scheduled(fixedDelayString = "${user-filter.sync-interval-millis:5000}")
+    public synchronized void sync() {
+
+        BloomFilter current = filter;
+
+        if(current == null) {
+            return;
+        }
+
+        try {
+            long maxMemberId = userBulkRepository.forEachUsername(Math.max(0, lastMemberId - syncOverlap), username -> current.put(key(username)));
+            lastMemberId = Math.max(lastMemberId, maxMemberId);
+        } catch (RuntimeException e) {
+            log.warn("UsernameFilter sync(): {}: {}", e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    private void add(String username) {
+
+        String key = key(username);
+
+        // building 을 먼저 읽음: null 이면 재생성 전 (이후 읽는 스냅샷에 포함) 이거나 완료 후 (filter 가 이미 새 필터)
+        BloomFilter next = building;
+        if(next != null) {
+            next.put(key);
+        }
+
+        BloomFilter current = filter;
+        if(current != null) {
+            current.put(key);
+        }
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+}
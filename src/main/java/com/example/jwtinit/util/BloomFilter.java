@@ -0,0 +1,94 @@
+package com.example.jwtinit.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// BloomFilter: 문자열 집합에 대한 확률적 포함 여부 확인 (thread-safe)
+// 1. mightContain() 이 false 면 확실히 없음, true 면 있을 수도 있음 (false positive 확률 ≈ falsePositiveRate)
+// 2. 크기는 생성 시 고정: bit 수 m = -n·ln(p) / (ln2)^2, 해시 함수 수 k = (m / n)·ln2
+//      ex. n = 100,000, p = 1% -> 약 958,506 bit (약 117 KB), k = 7
+//      expectedInsertions 를 넘겨서 추가하면 false positive 확률이 올라감 (메모리는 그대로)
+// 3. 삭제는 지원하지 않음 -> 필요하면 새로 만들어 교체
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+
+        long n = Math.max(1, expectedInsertions);
+        double p = Math.min(Math.max(falsePositiveRate, Double.MIN_VALUE), 0.5);
+
+        long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        m = Math.max(64, ((m + 63) / 64) * 64);
+
+        this.bitSize = m;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (m / 64));
+    }
+
+    public void put(String value) {
+
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = index(h1 + i * h2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            if((bits.get(word) & mask) == 0) {
+                bits.getAndAccumulate(word, mask, (current, m) -> current | m);
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = index(h1 + i * h2);
+            if((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // 메모리 사용량 (byte)
+    public long sizeInBytes() {
+        return bitSize / 8;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    private long index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitSize;
+    }
+
+    // FNV-1a 64 + MurmurHash3 fmix64 (문자열을 byte[] 로 변환하지 않고 char 단위로 계산)
+    private static long hash(String value) {
+
+        long h = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+
+        return h;
+    }
+
+}
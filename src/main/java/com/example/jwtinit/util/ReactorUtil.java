@@ -0,0 +1,24 @@
+package com.example.jwtinit.util;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+
+// WebFlux (reactive 프로파일) 에서 블로킹 호출 (JPA, BCrypt) 을 이벤트 루프 밖에서 실행
+//      boundedElastic: 블로킹 작업용 스케줄러 (스레드 수 상한 = CPU 코어 수 x 10)
+public class ReactorUtil {
+
+    private ReactorUtil() {
+    }
+
+    // null 리턴 시 빈 Mono
+    public static <T> Mono<T> fromCallable(Callable<T> callable) {
+        return Mono.fromCallable(callable).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public static Mono<Void> fromRunnable(Runnable runnable) {
+        return Mono.<Void>fromRunnable(runnable).subscribeOn(Schedulers.boundedElastic());
+    }
+
+}
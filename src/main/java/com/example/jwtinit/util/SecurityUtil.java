@@ -2,8 +2,10 @@ package com.example.jwtinit.util;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import reactor.core.publisher.Mono;
 
 import java.util.Optional;
 
@@ -19,10 +21,23 @@ public class SecurityUtil {
         final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if(authentication == null) {
-            log.info("Security Util getCurrUsername(): Security Context에 인증 정보가 없습니다.");
+            log.debug("Security Util getCurrUsername(): Security Context에 인증 정보가 없습니다.");
             return Optional.empty();
         }
 
+        return getUsername(authentication);
+    }
+
+    // WebFlux (reactive 프로파일): ThreadLocal 대신 Reactor Context 의 Security Context 사용
+    //      인증 정보가 없으면 빈 Mono
+    public static Mono<String> getReactiveCurrUsername() {
+        return ReactiveSecurityContextHolder.getContext()
+                .flatMap(securityContext -> Mono.justOrEmpty(securityContext.getAuthentication()))
+                .flatMap(authentication -> Mono.justOrEmpty(getUsername(authentication)));
+    }
+
+    private static Optional<String> getUsername(Authentication authentication) {
+
         String username = null;
 
         // instanceof: 객체 타입 확인 연산자 (cf. js typeof)
@@ -31,12 +46,11 @@ public class SecurityUtil {
         // getPrincipal(): 인증 중인 Principal or Authentication 반환
         if(authentication.getPrincipal() instanceof UserDetails) {
 
-            log.info("SecurityUtil getCurrUsername authentication.getPrincipal(): {}", authentication.getPrincipal());
-
             UserDetails user = (UserDetails) authentication.getPrincipal();
             username = user.getUsername();
 
         }else if(authentication.getPrincipal() instanceof String) {
+            // JwtAuthenticationToken 의 Principal 은 username(String)
             username = (String) authentication.getPrincipal();
         }
 
@@ -0,0 +1,137 @@
+package com.example.jwtinit.authorization;
+
+import org.junit.Test;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CompiledPreAuthorizeAuthorizationManagerTest {
+
+    private final CompiledPreAuthorizeAuthorizationManager authorizationManager =
+            new CompiledPreAuthorizeAuthorizationManager(new PreAuthorizeAuthorizationManager(), 16);
+
+    private final List<GrantedAuthority> user = AuthorityUtils.createAuthorityList("ROLE_USER");
+    private final List<GrantedAuthority> admin = AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_ADMIN");
+
+    @Test
+    public void compiledRoleRules() throws Exception {
+
+        assertTrue(check("adminOnly", admin).isGranted());
+        assertFalse(check("adminOnly", user).isGranted());
+
+        assertTrue(check("userOrAdmin", user).isGranted());
+        assertFalse(check("userOrAdmin", AuthorityUtils.createAuthorityList("ROLE_GUEST")).isGranted());
+
+        assertTrue(check("authorityOrRole", AuthorityUtils.createAuthorityList("user:write")).isGranted());
+        assertTrue(check("authorityOrRole", admin).isGranted());
+        assertFalse(check("authorityOrRole", user).isGranted());
+
+        assertTrue(authorizationManager.precompile(Sample.class.getMethod("adminOnly"), Sample.class).isCompiled());
+        assertTrue(authorizationManager.precompile(Sample.class.getMethod("authorityOrRole"), Sample.class).isCompiled());
+    }
+
+    @Test
+    public void classLevelRuleAndNoRule() throws Exception {
+
+        assertFalse(check(AdminSample.class, "inherited", user).isGranted());
+        assertTrue(check(AdminSample.class, "inherited", admin).isGranted());
+        assertTrue(check(AdminSample.class, "overridden", user).isGranted()); // 메소드 규칙 우선
+
+        assertNull(check("none", user)); // @PreAuthorize 없음 -> 판단하지 않음
+    }
+
+    @Test
+    public void uncompilableExpressionFallsBackToSpel() throws Exception {
+
+        assertTrue(authorizationManager.precompile(Sample.class.getMethod("spel", String.class), Sample.class).isFallback());
+
+        assertTrue(check(Sample.class, "spel", user, "user").isGranted());
+        assertFalse(check(Sample.class, "spel", user, "other").isGranted());
+    }
+
+    @Test
+    public void decisionIsMemoizedPerAuthoritySet() {
+
+        PreAuthorizeRule rule = PreAuthorizeRule.compile("hasAnyRole('ADMIN')", 2);
+
+        assertTrue(rule.decide(admin).isGranted());
+        assertEquals(1, rule.decisionCount());
+
+        // 같은 권한 목록 (같은 인스턴스, 같은 내용의 다른 인스턴스) 은 다시 평가하지 않음
+        assertTrue(rule.decide(admin).isGranted());
+        assertTrue(rule.decide(AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_ADMIN")).isGranted());
+        assertEquals(1, rule.decisionCount());
+
+        assertFalse(rule.decide(user).isGranted());
+        assertEquals(2, rule.decisionCount());
+
+        // maxEntries 를 넘으면 기억하지 않고 매번 평가
+        assertFalse(rule.decide(AuthorityUtils.createAuthorityList("ROLE_GUEST")).isGranted());
+        assertTrue(rule.decide(AuthorityUtils.createAuthorityList("ROLE_ADMIN")).isGranted());
+        assertEquals(2, rule.decisionCount());
+    }
+
+    private AuthorizationDecision check(String methodName, List<GrantedAuthority> authorities) throws Exception {
+        return check(Sample.class, methodName, authorities);
+    }
+
+    private AuthorizationDecision check(Class<?> type, String methodName, List<GrantedAuthority> authorities, Object... arguments) throws Exception {
+
+        Class<?>[] parameterTypes = new Class<?>[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            parameterTypes[i] = arguments[i].getClass();
+        }
+
+        Object target = type.getDeclaredConstructor().newInstance();
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user", "", authorities);
+
+        return authorizationManager.check(() -> authentication,
+                new SimpleMethodInvocation(target, type.getMethod(methodName, parameterTypes), arguments));
+    }
+
+    public static class Sample {
+
+        @PreAuthorize("hasAnyRole('ADMIN')")
+        public void adminOnly() {
+        }
+
+        @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+        public void userOrAdmin() {
+        }
+
+        @PreAuthorize("hasAuthority('user:write') or hasRole('ROLE_ADMIN')")
+        public void authorityOrRole() {
+        }
+
+        @PreAuthorize("#username == authentication.name")
+        public void spel(String username) {
+        }
+
+        public void none() {
+        }
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public static class AdminSample {
+
+        public void inherited() {
+        }
+
+        @PreAuthorize("hasRole('USER')")
+        public void overridden() {
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.example.jwtinit.config;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Actuator 접근 제한 테스트 (Security Filter 적용)
+// 헬스 체크만 공개, Prometheus 는 허용된 주소 (기본 loopback) 또는 ADMIN 만
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMetrics // 테스트에서도 Prometheus 엔드포인트 등록
+public class ActuatorSecurityTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @Before
+    public void setUp() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    public void healthIsPublic() throws Exception {
+
+        this.mockMvc
+                .perform(get("/actuator/health").with(request -> { request.setRemoteAddr("203.0.113.7"); return request; }))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void prometheusFromAllowedAddress() throws Exception {
+
+        this.mockMvc
+                .perform(get("/actuator/prometheus").with(request -> { request.setRemoteAddr("127.0.0.1"); return request; }))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void prometheusFromOtherAddressRequiresToken() throws Exception {
+
+        this.mockMvc
+                .perform(get("/actuator/prometheus").with(request -> { request.setRemoteAddr("203.0.113.7"); return request; }))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void prometheusFromOtherAddressForbiddenForUser() throws Exception {
+
+        this.mockMvc
+                .perform(get("/actuator/prometheus").with(request -> { request.setRemoteAddr("203.0.113.7"); return request; }))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    public void prometheusFromOtherAddressAllowedForAdmin() throws Exception {
+
+        this.mockMvc
+                .perform(get("/actuator/prometheus").with(request -> { request.setRemoteAddr("203.0.113.7"); return request; }))
+                .andExpect(status().isOk());
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.example.jwtinit.config;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PostAuthorize;
+import org.springframework.security.access.prepost.PostFilter;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.access.prepost.PreFilter;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+// MethodSecurityConfig: prePostEnabled = false 로 꺼진 @PostAuthorize, @PreFilter, @PostFilter 가 다시 적용되는지 확인
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class MethodSecurityConfigTest {
+
+    @Autowired
+    private SecuredService securedService;
+
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void postAuthorize() {
+
+        assertEquals("user", securedService.owner("user"));
+        assertThrows(AccessDeniedException.class, () -> securedService.owner("admin"));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void preFilter() {
+
+        assertEquals(Arrays.asList("user"), securedService.accept(new ArrayList<>(Arrays.asList("user", "admin"))));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void postFilter() {
+
+        assertEquals(Arrays.asList("user"), securedService.all());
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    public void preAuthorizeRunsBeforePostFilter() {
+
+        assertThrows(AccessDeniedException.class, () -> securedService.adminOnly());
+    }
+
+    @TestConfiguration
+    static class SecuredServiceConfig {
+
+        @Bean
+        SecuredService securedService() {
+            return new SecuredService();
+        }
+    }
+
+    static class SecuredService {
+
+        @PostAuthorize("returnObject == authentication.name")
+        public String owner(String username) {
+            return username;
+        }
+
+        @PreFilter("filterObject == authentication.name")
+        public List<String> accept(List<String> usernames) {
+            return usernames;
+        }
+
+        @PostFilter("filterObject == authentication.name")
+        public List<String> all() {
+            return new ArrayList<>(Arrays.asList("user", "admin"));
+        }
+
+        @PreAuthorize("hasRole('ADMIN')")
+        @PostFilter("filterObject == authentication.name")
+        public List<String> adminOnly() {
+            return new ArrayList<>(Arrays.asList("user", "admin"));
+        }
+    }
+
+}
@@ -0,0 +1,203 @@
+package com.example.jwtinit.controller;
+
+import com.example.jwtinit.config.CacheConfig;
+import com.example.jwtinit.dto.TokenDto;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+
+// reactive 프로파일 (WebFlux) 인증 흐름 테스트
+@RunWith(SpringRunner.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive;DB_CLOSE_DELAY=-1",
+        "spring.main.web-application-type=reactive" // 테스트는 프로파일 설정 파일이 아닌 이 값으로 웹 타입을 결정
+})
+@ActiveProfiles("reactive")
+@AutoConfigureWebTestClient
+public class ReactiveAuthControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    public void authenticateAndAccessAdminApi() {
+
+        String token = login("admin", "admin").getToken();
+
+        webTestClient.get().uri("/api/user/admin")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.username").isEqualTo("admin");
+    }
+
+    @Test
+    public void wrongPassword() {
+        webTestClient.post().uri("/api/authenticate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(loginBody("admin", "wrong-password"))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void unknownUser() {
+        webTestClient.post().uri("/api/authenticate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(loginBody("no-such-user", "password"))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void missingOrInvalidToken() {
+
+        webTestClient.get().uri("/api/user/admin")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.get().uri("/api/user/admin")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer invalid.token.value")
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectHeader().valueMatches(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\".*");
+    }
+
+    @Test
+    public void signupAndForbiddenAdminApi() {
+
+        Map<String, String> user = new HashMap<>();
+        user.put("username", "reactive-user");
+        user.put("password", "reactive-password");
+        user.put("nickname", "reactive-user");
+
+        webTestClient.post().uri("/api/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(user)
+                .exchange()
+                .expectStatus().isOk();
+
+        String token = login("reactive-user", "reactive-password").getToken();
+
+        webTestClient.get().uri("/api/user/admin")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    public void refreshRotatesToken() {
+
+        String refreshToken = login("admin", "admin").getRefreshToken();
+
+        webTestClient.post().uri("/api/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("refreshToken", refreshToken))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.refreshToken").value(rotated -> assertNotEquals(refreshToken, rotated));
+
+        // 이미 사용한 Refresh Token 재사용
+        webTestClient.post().uri("/api/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("refreshToken", refreshToken))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void refreshForDeactivatedUserIsUnauthorized() {
+
+        Map<String, String> user = new HashMap<>();
+        user.put("username", "deactivated-user");
+        user.put("password", "deactivated-password");
+        user.put("nickname", "deactivated-user");
+
+        webTestClient.post().uri("/api/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(user)
+                .exchange()
+                .expectStatus().isOk();
+
+        String refreshToken = login("deactivated-user", "deactivated-password").getRefreshToken();
+
+        jdbcTemplate.update("update member set activated = false where username = ?", "deactivated-user");
+        cacheManager.getCache(CacheConfig.USER_CACHE).evict("deactivated-user");
+
+        webTestClient.post().uri("/api/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("refreshToken", refreshToken))
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        // family 가 폐기되었으므로 다시 활성화되어도 같은 Refresh Token 은 사용할 수 없음
+        jdbcTemplate.update("update member set activated = true where username = ?", "deactivated-user");
+        cacheManager.getCache(CacheConfig.USER_CACHE).evict("deactivated-user");
+
+        webTestClient.post().uri("/api/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("refreshToken", refreshToken))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void logoutRevokesToken() {
+
+        String token = login("admin", "admin").getToken();
+
+        webTestClient.post().uri("/api/logout")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/api/user/admin")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectHeader().valueEquals(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\", error_description=\"revoked\"");
+    }
+
+    private TokenDto login(String username, String password) {
+
+        TokenDto tokenDto = webTestClient.post().uri("/api/authenticate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(loginBody(username, password))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TokenDto.class)
+                .returnResult().getResponseBody();
+
+        assertNotNull(tokenDto);
+        return tokenDto;
+    }
+
+    private Map<String, String> loginBody(String username, String password) {
+        Map<String, String> body = new HashMap<>();
+        body.put("username", username);
+        body.put("password", password);
+        return body;
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.example.jwtinit.controller;
+
+import com.example.jwtinit.dto.TokenDto;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+// reactive 프로파일 (WebFlux) 대량 회원가입 테스트
+@RunWith(SpringRunner.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive;DB_CLOSE_DELAY=-1",
+        "spring.main.web-application-type=reactive" // 테스트는 프로파일 설정 파일이 아닌 이 값으로 웹 타입을 결정
+})
+@ActiveProfiles("reactive")
+@AutoConfigureWebTestClient
+public class ReactiveUserControllerTest {
+
+    private static final int CODEC_LIMIT = 256 * 1024; // spring.codec.max-in-memory-size 기본값
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    public void bulkSignupLargerThanCodecLimit() {
+
+        // 검증 실패 행 (nickname 50자 초과) 으로 body 크기를 늘리고 해싱은 가입되는 2 행만
+        String longNickname = "n".repeat(1000);
+        StringBuilder body = new StringBuilder("[")
+                .append("{\"username\":\"bulk-reactive-1\",\"password\":\"password\",\"nickname\":\"bulk-reactive-1\"},")
+                .append("{\"username\":\"bulk-reactive-2\",\"password\":\"password\",\"nickname\":\"bulk-reactive-2\"}");
+        int rows = 2;
+        while (body.length() <= CODEC_LIMIT) {
+            body.append(",{\"username\":\"bulk-invalid-").append(rows).append("\",\"password\":\"password\",\"nickname\":\"").append(longNickname).append("\"}");
+            rows++;
+        }
+        body.append("]");
+        assertTrue(body.toString().getBytes(StandardCharsets.UTF_8).length > CODEC_LIMIT);
+
+        webTestClient.post().uri("/api/signup/bulk")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + login("admin", "admin").getToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body.toString())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(rows)
+                .jsonPath("$[0].status").isEqualTo("CREATED")
+                .jsonPath("$[1].status").isEqualTo("CREATED")
+                .jsonPath("$[2].status").isEqualTo("INVALID")
+                .jsonPath("$[" + (rows - 1) + "].index").isEqualTo(rows - 1)
+                .jsonPath("$[" + (rows - 1) + "].status").isEqualTo("INVALID");
+
+        login("bulk-reactive-2", "password");
+    }
+
+    @Test
+    public void bulkSignupMalformedJson() {
+
+        webTestClient.post().uri("/api/signup/bulk")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + login("admin", "admin").getToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[{\"username\":\"bulk-malformed\",")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    private TokenDto login(String username, String password) {
+
+        Map<String, String> body = new HashMap<>();
+        body.put("username", username);
+        body.put("password", password);
+
+        TokenDto tokenDto = webTestClient.post().uri("/api/authenticate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TokenDto.class)
+                .returnResult().getResponseBody();
+
+        assertNotNull(tokenDto);
+        return tokenDto;
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.example.jwtinit.controller;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 관리자 토큰 폐기 API 테스트 (Security Filter 없이 @PreAuthorize 만 적용)
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@Transactional
+public class TokenRevocationControllerTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @Before
+    public void setUp() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.context).build();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    public void revokeAllRejectsFutureCutoff() throws Exception {
+
+        this.mockMvc
+                .perform(post("/api/admin/tokens/revoke-all")
+                        .param("before", Instant.now().plus(1, ChronoUnit.DAYS).toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    public void revokeAllAcceptsPastCutoff() throws Exception {
+
+        this.mockMvc
+                .perform(post("/api/admin/tokens/revoke-all")
+                        .param("before", "2000-01-01T00:00:00Z"))
+                .andExpect(status().isNoContent());
+    }
+
+}
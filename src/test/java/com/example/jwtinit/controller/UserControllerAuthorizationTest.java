@@ -0,0 +1,66 @@
+package com.example.jwtinit.controller;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// @PreAuthorize (MethodSecurityConfig 의 CompiledPreAuthorizeAuthorizationManager) 가 서블릿 요청에 적용되는지 확인
+// Security Filter 를 적용하므로 권한 부족은 예외 대신 403 (JwtAccessDeniedHandler)
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@Transactional
+public class UserControllerAuthorizationTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @Before
+    public void setUp() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void adminUserInfoForbiddenForUser() throws Exception {
+
+        this.mockMvc
+                .perform(get("/api/user/admin"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    public void adminUserInfoAllowedForAdmin() throws Exception {
+
+        this.mockMvc
+                .perform(get("/api/user/admin"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("admin"));
+    }
+
+    @Test
+    public void adminUserInfoRequiresToken() throws Exception {
+
+        this.mockMvc
+                .perform(get("/api/user/admin"))
+                .andExpect(status().isUnauthorized());
+    }
+
+}
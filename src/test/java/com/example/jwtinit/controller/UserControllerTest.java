@@ -11,15 +11,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.JUnitRestDocumentation;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.util.NestedServletException;
 
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.Assert.assertTrue;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
@@ -119,6 +122,35 @@ public class UserControllerTest {
         ;
     }
 
+    @Test
+    @DisplayName("로그인 시도 제한 테스트: 연속 실패 후 429")
+    public void authenticateRateLimited() throws Exception {
+
+        Map<String, String> reqParams = getReqParams("rate-limited");
+        reqParams.put("password", "wrong-password");
+
+        // 잘못된 비밀번호 (Security Filter 없이 실행하므로 BadCredentialsException 이 그대로 전달됨)
+        for (int attempts = 0; attempts < 10; attempts++) {
+            try {
+                this.mockMvc.perform(
+                         post("/api/authenticate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(reqParams)));
+            } catch (NestedServletException e) {
+                assertTrue(e.getCause() instanceof BadCredentialsException);
+            }
+        }
+
+        this.mockMvc
+                .perform(
+                     post("/api/authenticate")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(reqParams))
+                ).andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andDo(print());
+    }
+
     public Map<String, String> getReqParams(String keyword) {
 
         Map<String, String> reqParams = new HashMap<>();
@@ -0,0 +1,72 @@
+package com.example.jwtinit.crypto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class PasswordHashingPoolTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    private PasswordHashingPool pool;
+
+    @After
+    public void tearDown() {
+        callers.shutdownNow();
+        if(pool != null) {
+            pool.destroy();
+        }
+    }
+
+    @Test
+    public void runsTaskOnPool() {
+
+        pool = new PasswordHashingPool(1, 1, 1000, meterRegistry);
+
+        String threadName = pool.execute(() -> Thread.currentThread().getName());
+
+        assertEquals("password-hashing-1", threadName);
+        assertEquals(1, meterRegistry.get("password.hash.duration").timer().count());
+    }
+
+    @Test
+    public void rejectsWhenQueueIsFull() throws Exception {
+
+        pool = new PasswordHashingPool(1, 1, 5000, meterRegistry);
+
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 스레드 1개 점유 + 큐 1개 점유
+        callers.submit(() -> pool.execute(() -> { running.countDown(); await(release); return null; }));
+        running.await();
+        callers.submit(() -> pool.execute(() -> null));
+        Thread.sleep(100);
+
+        try {
+            pool.execute(() -> null);
+            fail("PasswordHashingRejectedException expected");
+        } catch (PasswordHashingRejectedException e) {
+            assertEquals(1.0, meterRegistry.get("password.hash.rejected").counter().count(), 0.0);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
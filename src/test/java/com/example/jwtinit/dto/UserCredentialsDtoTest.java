@@ -0,0 +1,54 @@
+package com.example.jwtinit.dto;
+
+import com.example.jwtinit.entity.Authority;
+import com.example.jwtinit.entity.User;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+public class UserCredentialsDtoTest {
+
+    @Test
+    public void copiesEntityIntoImmutableDto() {
+
+        Set<Authority> authorities = new HashSet<>(Arrays.asList(
+                Authority.builder().authorityName("ROLE_USER").build(),
+                Authority.builder().authorityName("ROLE_ADMIN").build()));
+
+        User user = User.builder()
+                .username("user")
+                .password("hash")
+                .activated(true)
+                .authorities(authorities)
+                .build();
+
+        UserCredentialsDto credentials = UserCredentialsDto.from(user);
+
+        // 엔티티를 변경해도 Dto 는 그대로
+        user.setPassword("changed");
+        authorities.clear();
+
+        assertEquals("hash", credentials.getPassword());
+        assertEquals(2, credentials.getAuthorityNames().size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void authorityNamesAreUnmodifiable() {
+
+        User user = User.builder()
+                .username("user")
+                .password("hash")
+                .activated(true)
+                .authorities(new HashSet<>())
+                .build();
+
+        List<String> authorityNames = UserCredentialsDto.from(user).getAuthorityNames();
+        authorityNames.add("ROLE_ADMIN");
+    }
+
+}
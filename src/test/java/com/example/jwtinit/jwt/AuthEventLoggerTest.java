@@ -0,0 +1,54 @@
+package com.example.jwtinit.jwt;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class AuthEventLoggerTest {
+
+    @Test
+    public void samplesOneInN() {
+
+        AuthEventLogger.Policy policy = new AuthEventLogger.Policy(10, 0);
+
+        int logged = 0;
+        for (int i = 0; i < 100; i++) {
+            if(policy.acquire(0) >= 0) {
+                logged++;
+            }
+        }
+
+        assertEquals(10, logged);
+    }
+
+    @Test
+    public void limitsPerSecondAndReportsSuppressedCount() {
+
+        AuthEventLogger.Policy policy = new AuthEventLogger.Policy(1, 2);
+
+        assertEquals(0, policy.acquire(1_000));
+        assertEquals(0, policy.acquire(1_100));
+        assertEquals(-1, policy.acquire(1_200));
+        assertEquals(-1, policy.acquire(1_300));
+
+        // 다음 윈도우에서 버려진 건수와 함께 기록
+        assertEquals(2, policy.acquire(2_000));
+    }
+
+    @Test
+    public void quotesUntrustedValues() {
+
+        assertEquals("\"admin\"", AuthEventLogger.quote("admin"));
+        assertEquals("-", AuthEventLogger.quote(null));
+
+        // 줄바꿈, 따옴표로 다른 기록이나 key=value 를 만들 수 없음
+        String forged = AuthEventLogger.quote("x\" reason=none\r\nevent=login_success user=\"admin");
+        assertEquals("\"x\\\" reason=none\\u000d\\u000aevent=login_success user=\\\"admin\"", forged);
+        assertFalse(forged.contains("\n"));
+
+        String truncated = AuthEventLogger.quote("a".repeat(AuthEventLogger.MAX_VALUE_LENGTH + 10));
+        assertEquals(AuthEventLogger.MAX_VALUE_LENGTH + 5, truncated.length());
+    }
+
+}
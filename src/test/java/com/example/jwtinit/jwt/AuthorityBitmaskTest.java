@@ -0,0 +1,51 @@
+package com.example.jwtinit.jwt;
+
+import org.junit.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class AuthorityBitmaskTest {
+
+    @Test
+    public void encodeAndDecodeRoundTrip() {
+
+        AuthorityBitmask bitmask = AuthorityBitmask.of(Arrays.asList("ROLE_USER", "ROLE_ADMIN"), 16);
+
+        long mask = bitmask.encode(AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_ADMIN"));
+        List<GrantedAuthority> decoded = bitmask.decode(mask);
+
+        assertEquals(3, mask);
+        assertEquals(AuthorityUtils.createAuthorityList("ROLE_ADMIN", "ROLE_USER"), decoded); // 이름 순
+        assertSame(decoded, bitmask.decode(mask));
+    }
+
+    @Test
+    public void versionDependsOnlyOnAuthorityNames() {
+
+        AuthorityBitmask bitmask = AuthorityBitmask.of(Arrays.asList("ROLE_USER", "ROLE_ADMIN"), 16);
+
+        assertEquals(bitmask.getVersion(), AuthorityBitmask.of(Arrays.asList("ROLE_ADMIN", "ROLE_USER", "ROLE_USER"), 16).getVersion());
+        assertNotEquals(bitmask.getVersion(), AuthorityBitmask.of(Arrays.asList("ROLE_USER", "ROLE_ADMIN", "ROLE_MANAGER"), 16).getVersion());
+    }
+
+    @Test
+    public void rejectsUnknownAuthoritiesAndBits() {
+
+        AuthorityBitmask bitmask = AuthorityBitmask.of(Arrays.asList("ROLE_USER", "ROLE_ADMIN"), 16);
+
+        assertEquals(-1, bitmask.encode(AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_MANAGER")));
+        assertTrue(bitmask.isValid(0));
+        assertFalse(bitmask.isValid(4));
+        assertFalse(bitmask.isValid(-1));
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.example.jwtinit.jwt;
+
+import org.junit.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class AuthorityRegistryTest {
+
+    @Test
+    public void sameClaimResolvesToSharedInstance() {
+
+        AuthorityRegistry registry = new AuthorityRegistry(16);
+
+        List<GrantedAuthority> first = registry.resolve("ROLE_USER,ROLE_ADMIN");
+        List<GrantedAuthority> second = registry.resolve(new String("ROLE_USER,ROLE_ADMIN"));
+
+        assertSame(first, second);
+        assertEquals(AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_ADMIN"), first);
+        assertSame(first.get(0), registry.resolve("ROLE_USER").get(0));
+    }
+
+    @Test
+    public void skipsEmptySegments() {
+
+        AuthorityRegistry registry = new AuthorityRegistry(16);
+
+        assertEquals(AuthorityUtils.createAuthorityList("ROLE_USER"), registry.resolve(",ROLE_USER,"));
+        assertEquals(0, registry.resolve("").size());
+    }
+
+    @Test
+    public void stopsInterningAtCapacity() {
+
+        AuthorityRegistry registry = new AuthorityRegistry(1);
+
+        registry.resolve("ROLE_USER");
+
+        assertNotSame(registry.resolve("ROLE_ADMIN"), registry.resolve("ROLE_ADMIN"));
+        assertEquals(1, registry.size());
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.example.jwtinit.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class JwkSetConverterTest {
+
+    @Test
+    public void verifierNodeValidatesRs256TokenFromJwks() throws Exception {
+        assertVerifiableFromJwks(SignatureAlgorithm.RS256);
+    }
+
+    @Test
+    public void verifierNodeValidatesEs256TokenFromJwks() throws Exception {
+        assertVerifiableFromJwks(SignatureAlgorithm.ES256);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void verifierNodeCannotIssueTokens() throws Exception {
+
+        TokenProvider issuer = issuer(SignatureAlgorithm.ES256);
+        TokenProvider verifier = verifier(JwkSetConverter.toJwkSet(issuer.getKeyRing()));
+
+        verifier.createToken(new UsernamePasswordAuthenticationToken("test", "", AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    @Test
+    public void jwksDoesNotExposeHmacSecret() throws Exception {
+
+        TokenProvider tokenProvider = new TokenProvider("ZmYtc2VjcmV0LWZmLXNlY3JldC1mZi1zZWNyZXQtZmYtc2VjcmV0LWZmLXNlY3JldC1mZi1zZWNyZXQtZmYtc2VjcmV0", 60);
+        tokenProvider.afterPropertiesSet();
+
+        assertEquals(Collections.emptyList(), JwkSetConverter.toJwkSet(tokenProvider.getKeyRing()).get("keys"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void skipsUnsupportedOrMalformedKeys() throws Exception {
+
+        TokenProvider issuer = issuer(SignatureAlgorithm.RS256);
+        String token = issuer.createToken(new UsernamePasswordAuthenticationToken("test", "", AuthorityUtils.createAuthorityList("ROLE_USER")));
+
+        List<Map<String, Object>> keys = new ArrayList<>((List<Map<String, Object>>) JwkSetConverter.toJwkSet(issuer.getKeyRing()).get("keys"));
+        keys.add(jwk("ed", "OKP", "EdDSA"));       // jjwt 0.11 이 모르는 alg
+        keys.add(jwk("typo", "RSA", "RS256x"));    // 잘못된 alg
+        keys.add(jwk("broken", "RSA", "RS256"));   // n, e 없음
+
+        Map<String, SigningKey> signingKeys = JwkSetConverter.fromJwkSet(Collections.singletonMap("keys", keys));
+
+        assertEquals(Collections.singleton("k1"), signingKeys.keySet());
+        assertTrue(verifier(Collections.singletonMap("keys", keys)).validateToken(token));
+    }
+
+    @Test
+    public void keyRingComparesKeyMaterialNotOnlyKeyIds() {
+
+        SigningKeyRing first = new SigningKeyRing(JwkSetConverter.fromJwkSet(JwkSetConverter.toJwkSet(issuerKeyRing())), null, null);
+        SigningKeyRing same = new SigningKeyRing(JwkSetConverter.fromJwkSet(JwkSetConverter.toJwkSet(first)), null, null);
+        SigningKeyRing replaced = new SigningKeyRing(JwkSetConverter.fromJwkSet(JwkSetConverter.toJwkSet(issuerKeyRing())), null, null); // 같은 kid, 새 키
+
+        assertEquals(first.keyIds(), replaced.keyIds());
+        assertTrue(first.hasSameKeys(same));
+        assertFalse(first.hasSameKeys(replaced));
+    }
+
+    private static SigningKeyRing issuerKeyRing() {
+        return new SigningKeyRing(Collections.singletonMap("k1", SigningKeyRingLoader.generate("k1", SignatureAlgorithm.ES256)), "k1", null);
+    }
+
+    private static Map<String, Object> jwk(String keyId, String keyType, String alg) {
+        Map<String, Object> jwk = new HashMap<>();
+        jwk.put("kid", keyId);
+        jwk.put("kty", keyType);
+        jwk.put("alg", alg);
+        return jwk;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void assertVerifiableFromJwks(SignatureAlgorithm algorithm) throws Exception {
+
+        TokenProvider issuer = issuer(algorithm);
+        String token = issuer.createToken(new UsernamePasswordAuthenticationToken("test", "", AuthorityUtils.createAuthorityList("ROLE_USER")));
+
+        Map<String, Object> jwkSet = JwkSetConverter.toJwkSet(issuer.getKeyRing());
+        assertEquals(algorithm.getValue(), ((List<Map<String, Object>>) jwkSet.get("keys")).get(0).get("alg"));
+
+        TokenProvider verifier = verifier(jwkSet);
+        assertTrue(verifier.validateToken(token));
+        assertEquals("test", verifier.getAuthentication(token).getName());
+    }
+
+    private static TokenProvider issuer(SignatureAlgorithm algorithm) throws Exception {
+        TokenProvider tokenProvider = new TokenProvider("", 60);
+        tokenProvider.afterPropertiesSet();
+        tokenProvider.setKeyRing(new SigningKeyRing(Collections.singletonMap("k1", SigningKeyRingLoader.generate("k1", algorithm)), "k1", null));
+        return tokenProvider;
+    }
+
+    private static TokenProvider verifier(Map<String, Object> jwkSet) throws Exception {
+        TokenProvider tokenProvider = new TokenProvider("", 60);
+        tokenProvider.afterPropertiesSet();
+        tokenProvider.setKeyRing(new SigningKeyRing(JwkSetConverter.fromJwkSet(jwkSet), null, null));
+        return tokenProvider;
+    }
+
+}
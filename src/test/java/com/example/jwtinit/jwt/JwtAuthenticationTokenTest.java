@@ -0,0 +1,44 @@
+package com.example.jwtinit.jwt;
+
+import org.junit.Test;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class JwtAuthenticationTokenTest {
+
+    private final JwtAuthenticationToken token = new JwtAuthenticationToken("token-id", "user",
+            AuthorityUtils.createAuthorityList("ROLE_USER"), Instant.now(), Instant.now().plusSeconds(60));
+
+    @Test
+    public void canBeMarkedUnauthenticated() {
+
+        assertTrue(token.isAuthenticated());
+
+        token.setAuthenticated(false);
+
+        assertFalse(token.isAuthenticated());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotBeMarkedAuthenticated() {
+        token.setAuthenticated(true);
+    }
+
+    @Test
+    public void unauthenticatedTokenIsNotReturnedFromCache() {
+
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 10, 300);
+        cache.put("token", token, new Date(System.currentTimeMillis() + 60_000));
+
+        token.setAuthenticated(false);
+
+        assertNull(cache.get("token"));
+    }
+
+}
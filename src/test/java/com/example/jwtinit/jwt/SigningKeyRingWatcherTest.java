@@ -0,0 +1,117 @@
+package com.example.jwtinit.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class SigningKeyRingWatcherTest {
+
+    private TokenProvider tokenProvider;
+    private Path keyRingFile;
+
+    // 키 목록 도입 이전에 jwt.secret 으로 발행된 (kid 없는) 토큰
+    private String kidlessToken;
+
+    @Before
+    public void setUp() throws Exception {
+
+        tokenProvider = new TokenProvider(Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded()), 60);
+        tokenProvider.afterPropertiesSet();
+
+        SigningKey legacyKey = tokenProvider.getKeyRing().find(null);
+        kidlessToken = Jwts.builder()
+                .setSubject("test")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(legacyKey.getSigningKey(), legacyKey.getAlgorithm())
+                .compact();
+
+        keyRingFile = Files.createTempFile("key-ring", ".properties");
+        keyRingFile.toFile().deleteOnExit();
+        Files.writeString(keyRingFile, "active=k2\nkey.k2=" + Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded()) + "\n");
+    }
+
+    @Test
+    public void legacyKeyIsKeptByDefault() throws Exception {
+
+        watcher(true).afterPropertiesSet();
+
+        assertEquals("k2", tokenProvider.getKeyRing().getActiveKey().getKeyId());
+        assertTrue(tokenProvider.parseToken(kidlessToken).isValid());
+    }
+
+    @Test
+    public void kidlessTokenIsRejectedOnceLegacyKeyIsDisabled() throws Exception {
+
+        watcher(false).afterPropertiesSet();
+
+        assertEquals("k2", tokenProvider.getKeyRing().getActiveKey().getKeyId());
+        assertNull(tokenProvider.getKeyRing().find(null));
+        assertEquals(TokenFailureReason.INVALID_SIGNATURE, tokenProvider.parseToken(kidlessToken).getFailureReason());
+    }
+
+    @Test
+    public void keyStoreWithoutActiveKidSignsWithLegacyKey() throws Exception {
+
+        Path keyStoreFile = keyStore("k3");
+        new SigningKeyRingWatcher(tokenProvider, new VerifiedTokenCache(true, 10, 60)
+                , keyStoreFile.toString(), "password", "", "HS512", "", true).afterPropertiesSet();
+
+        assertEquals(TokenProvider.DEFAULT_KEY_ID, tokenProvider.getKeyRing().getActiveKey().getKeyId());
+        assertNotNull(tokenProvider.getKeyRing().find("k3"));
+
+        String token = tokenProvider.createToken(new UsernamePasswordAuthenticationToken("test", "", AuthorityUtils.createAuthorityList("ROLE_USER")));
+        assertTrue(tokenProvider.parseToken(token).isValid());
+    }
+
+    @Test
+    public void keyStoreWithoutActiveKidOrLegacyKeyFailsAtStartup() throws Exception {
+
+        Path keyStoreFile = keyStore("k3");
+        SigningKeyRingWatcher watcher = new SigningKeyRingWatcher(tokenProvider, new VerifiedTokenCache(true, 10, 60)
+                , keyStoreFile.toString(), "password", "", "HS512", "", false);
+
+        IOException e = assertThrows(IOException.class, watcher::afterPropertiesSet);
+        assertTrue(e.getMessage().contains("jwt.key-ring-active-kid"));
+    }
+
+    private SigningKeyRingWatcher watcher(boolean legacyKeyEnabled) {
+        return new SigningKeyRingWatcher(tokenProvider, new VerifiedTokenCache(true, 10, 60)
+                , keyRingFile.toString(), "", "", "HS512", "", legacyKeyEnabled);
+    }
+
+    // HMAC 키 하나 (alias = kid) 를 가진 PKCS12 keystore
+    private static Path keyStore(String alias) throws Exception {
+
+        char[] password = "password".toCharArray();
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, password);
+        keyStore.setEntry(alias, new KeyStore.SecretKeyEntry(Keys.secretKeyFor(SignatureAlgorithm.HS512)), new KeyStore.PasswordProtection(password));
+
+        Path file = Files.createTempFile("key-ring", ".p12");
+        file.toFile().deleteOnExit();
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            keyStore.store(outputStream, password);
+        }
+        return file;
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.example.jwtinit.jwt;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TokenExpiryWheelTest {
+
+    @Test
+    public void advanceDispatchesExpiredBucketsPerSubscriber() {
+
+        TokenExpiryWheel wheel = new TokenExpiryWheel(1000);
+        long now = System.currentTimeMillis();
+
+        List<List<String>> first = new ArrayList<>();
+        List<List<String>> second = new ArrayList<>();
+
+        wheel.schedule((keys, at) -> first.add(keys), "a", now + 1500);
+        wheel.schedule((TokenExpiryWheel.Subscriber<String>) (keys, at) -> second.add(keys), "b", now + 1500);
+        wheel.schedule((keys, at) -> first.add(keys), "c", now + 60_000);
+
+        assertEquals(3, wheel.pendingCount());
+
+        // 만료 시각 전에는 전달하지 않음
+        assertEquals(0, wheel.advance(now + 500));
+        assertTrue(first.isEmpty());
+
+        assertEquals(2, wheel.advance(now + 3000));
+        assertEquals(Arrays.asList("a"), first.get(0));
+        assertEquals(Arrays.asList("b"), second.get(0));
+        assertEquals(1, wheel.pendingCount());
+    }
+
+    @Test
+    public void sameSubscriberReceivesKeysInOneCall() {
+
+        TokenExpiryWheel wheel = new TokenExpiryWheel(1000);
+        long now = System.currentTimeMillis();
+
+        List<List<String>> calls = new ArrayList<>();
+        TokenExpiryWheel.Subscriber<String> subscriber = (keys, at) -> calls.add(keys);
+
+        wheel.schedule(subscriber, "a", now + 1100);
+        wheel.schedule(subscriber, "b", now + 2100);
+
+        wheel.advance(now + 5000);
+
+        assertEquals(1, calls.size());
+        assertEquals(2, calls.get(0).size());
+    }
+
+    @Test
+    public void alreadyExpiredKeyIsDispatchedImmediately() {
+
+        TokenExpiryWheel wheel = new TokenExpiryWheel(1000);
+        List<String> expired = new ArrayList<>();
+
+        wheel.schedule((keys, at) -> expired.addAll(keys), "a", System.currentTimeMillis() - 5000);
+
+        assertEquals(Arrays.asList("a"), expired);
+        assertEquals(0, wheel.pendingCount());
+    }
+
+}
@@ -0,0 +1,230 @@
+package com.example.jwtinit.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.security.Key;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TokenProviderTest {
+
+    private String secret;
+    private TokenProvider tokenProvider;
+
+    @Before
+    public void setUp() throws Exception {
+        secret = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded());
+        this.tokenProvider = new TokenProvider(secret, 60);
+        this.tokenProvider.afterPropertiesSet();
+    }
+
+    @Test
+    public void parseTokenReturnsClaims() {
+
+        String token = tokenProvider.createToken(authentication("test", "ROLE_USER", "ROLE_ADMIN"));
+
+        TokenValidationResult result = tokenProvider.parseToken(token);
+
+        assertTrue(result.isValid());
+        assertEquals("test", result.getClaims().getSubject());
+        assertEquals(60_000, result.getClaims().getExpiration().getTime() - result.getClaims().getIssuedAt().getTime());
+
+        Authentication authentication = tokenProvider.getAuthentication(result.getClaims());
+        assertEquals("test", authentication.getName());
+        assertEquals(2, authentication.getAuthorities().size());
+        assertEquals("test", authentication.getPrincipal());
+        assertNull(authentication.getCredentials());
+    }
+
+    @Test
+    public void parseTokenReportsInvalidSignature() {
+
+        String token = tokenProvider.createToken(authentication("test", "ROLE_USER"));
+        String tampered = token.substring(0, token.length() - 4) + (token.endsWith("AAAA") ? "BBBB" : "AAAA");
+
+        TokenValidationResult result = tokenProvider.parseToken(tampered);
+
+        assertFalse(result.isValid());
+        assertEquals(TokenFailureReason.INVALID_SIGNATURE, result.getFailureReason());
+    }
+
+    @Test
+    public void parseTokenReportsMalformedToken() {
+
+        TokenValidationResult result = tokenProvider.parseToken("not-a-jwt");
+
+        assertFalse(result.isValid());
+        assertEquals(TokenFailureReason.MALFORMED, result.getFailureReason());
+    }
+
+    @Test
+    public void rotatedKeyRingStillVerifiesTokensSignedWithPreviousKey() {
+
+        String legacyToken = tokenProvider.createToken(authentication("test", "ROLE_USER"));
+
+        SigningKey legacyKey = tokenProvider.getKeyRing().find(null);
+        tokenProvider.setKeyRing(new SigningKeyRing(Collections.singletonMap("k2", hmacKey("k2")), "k2", legacyKey));
+
+        String rotatedToken = tokenProvider.createToken(authentication("test", "ROLE_USER"));
+
+        assertEquals("k2", Jwts.parserBuilder().build().parseClaimsJwt(withoutSignature(rotatedToken)).getHeader().get(JwsHeader.KEY_ID));
+        assertTrue(tokenProvider.validateToken(legacyToken));
+        assertTrue(tokenProvider.validateToken(rotatedToken));
+    }
+
+    @Test
+    public void parseTokenRejectsUnknownKeyId() {
+
+        SigningKey legacyKey = tokenProvider.getKeyRing().find(null);
+        tokenProvider.setKeyRing(new SigningKeyRing(Collections.singletonMap("k2", hmacKey("k2")), "k2", legacyKey));
+        String token = tokenProvider.createToken(authentication("test", "ROLE_USER"));
+
+        tokenProvider.setKeyRing(SigningKeyRing.of(legacyKey)); // k2 삭제
+
+        assertEquals(TokenFailureReason.INVALID_SIGNATURE, tokenProvider.parseToken(token).getFailureReason());
+    }
+
+    @Test
+    public void createTokenSetsNotBefore() {
+
+        String token = tokenProvider.createToken(authentication("test", "ROLE_USER"));
+
+        Claims claims = tokenProvider.parseToken(token).getClaims();
+        assertEquals(claims.getIssuedAt(), claims.getNotBefore());
+    }
+
+    @Test
+    public void parseTokenRejectsTokenWithoutExpiration() {
+
+        String token = signed(Jwts.builder().setSubject("test").setIssuedAt(new Date()));
+
+        assertEquals(TokenFailureReason.MISSING_CLAIM, tokenProvider.parseToken(token).getFailureReason());
+    }
+
+    @Test
+    public void parseTokenAllowsClockSkew() throws Exception {
+
+        TokenProvider skewTolerant = new TokenProvider(secret, 60, 30, 0);
+        skewTolerant.afterPropertiesSet();
+
+        long now = System.currentTimeMillis();
+        String expiredWithinSkew = signed(skewTolerant, Jwts.builder().setSubject("test")
+                .setIssuedAt(new Date(now - 70_000)).setExpiration(new Date(now - 10_000)));
+        String notYetValid = signed(skewTolerant, Jwts.builder().setSubject("test")
+                .setIssuedAt(new Date(now)).setNotBefore(new Date(now + 60_000)).setExpiration(new Date(now + 120_000)));
+
+        assertTrue(skewTolerant.parseToken(expiredWithinSkew).isValid());
+        assertEquals(TokenFailureReason.EXPIRED, tokenProvider.parseToken(signed(Jwts.builder().setSubject("test")
+                .setIssuedAt(new Date(now - 70_000)).setExpiration(new Date(now - 10_000)))).getFailureReason());
+        assertEquals(TokenFailureReason.NOT_YET_VALID, skewTolerant.parseToken(notYetValid).getFailureReason());
+    }
+
+    @Test
+    public void parseTokenRejectsTokenOlderThanMaxAge() throws Exception {
+
+        TokenProvider maxAgeProvider = new TokenProvider(secret, 3600, 0, 600);
+        maxAgeProvider.afterPropertiesSet();
+
+        long now = System.currentTimeMillis();
+        String oldToken = signed(maxAgeProvider, Jwts.builder().setSubject("test")
+                .setIssuedAt(new Date(now - 700_000)).setExpiration(new Date(now + 3_600_000)));
+        String token = maxAgeProvider.createToken(authentication("test", "ROLE_USER"));
+
+        assertEquals(TokenFailureReason.TOO_OLD, maxAgeProvider.parseToken(oldToken).getFailureReason());
+
+        Claims claims = maxAgeProvider.parseToken(token).getClaims();
+        assertEquals(claims.getIssuedAt().getTime() + 600_000, maxAgeProvider.getExpiration(claims).getTime()); // exp 보다 빠름
+    }
+
+    @Test
+    public void compactTokenCarriesAuthorityBitmask() throws Exception {
+
+        TokenProvider compactProvider = new TokenProvider(secret, 60, 0, 0, true);
+        compactProvider.afterPropertiesSet();
+
+        // AuthorityBitmask 적재 전에는 auth Claim 으로 발행
+        String fallback = compactProvider.createToken(authentication("test", "ROLE_USER", "ROLE_ADMIN"));
+        assertEquals("ROLE_USER,ROLE_ADMIN", compactProvider.parseToken(fallback).getClaims().get("auth"));
+
+        compactProvider.setAuthorityBitmask(AuthorityBitmask.of(Arrays.asList("ROLE_USER", "ROLE_ADMIN"), 16));
+        String compact = compactProvider.createToken(authentication("test", "ROLE_USER", "ROLE_ADMIN"));
+
+        assertTrue(compact.length() < fallback.length());
+
+        TokenValidationResult result = compactProvider.parseToken(compact);
+        assertTrue(result.isValid());
+        assertNull(result.getClaims().get("auth"));
+        assertEquals(22, result.getClaims().getId().length());
+        assertEquals(AuthorityUtils.createAuthorityList("ROLE_ADMIN", "ROLE_USER"),
+                compactProvider.getAuthentication(result.getClaims()).getAuthorities());
+
+        // 권한 테이블이 바뀌어도 이전 버전 토큰은 해석
+        compactProvider.setAuthorityBitmask(AuthorityBitmask.of(Arrays.asList("ROLE_USER", "ROLE_ADMIN", "ROLE_MANAGER"), 16));
+        assertTrue(compactProvider.parseToken(compact).isValid());
+
+        // 이 노드가 모르는 버전
+        assertEquals(TokenFailureReason.UNKNOWN_AUTHORITY_VERSION, tokenProvider.parseToken(compact).getFailureReason());
+    }
+
+    @Test
+    public void authorityVersionEvictedAfterParse() throws Exception {
+
+        TokenProvider compactProvider = new TokenProvider(secret, 60, 0, 0, true);
+        compactProvider.afterPropertiesSet();
+        compactProvider.setAuthorityBitmask(AuthorityBitmask.of(Arrays.asList("ROLE_USER", "ROLE_ADMIN"), 16));
+
+        String compact = compactProvider.createToken(authentication("test", "ROLE_USER", "ROLE_ADMIN"));
+        TokenValidationResult result = compactProvider.parseToken(compact);
+        assertTrue(result.isValid());
+
+        // 검증과 Authentication 생성 사이에 권한 테이블이 여러 번 바뀌어 버전이 밀려남
+        for (int i = 0; i < 4; i++) {
+            compactProvider.setAuthorityBitmask(AuthorityBitmask.of(Arrays.asList("ROLE_USER", "ROLE_ADMIN", "ROLE_EXTRA" + i), 16));
+        }
+
+        assertNull(compactProvider.getAuthentication(result.getClaims()));
+        assertEquals(TokenFailureReason.UNKNOWN_AUTHORITY_VERSION, compactProvider.parseToken(compact).getFailureReason());
+    }
+
+    private String signed(JwtBuilder builder) {
+        return signed(tokenProvider, builder);
+    }
+
+    // legacy 키 (jwt.secret) 로 서명한 임의 Claim 토큰
+    private static String signed(TokenProvider provider, JwtBuilder builder) {
+        SigningKey key = provider.getKeyRing().find(null);
+        return builder.signWith(key.getSigningKey(), key.getAlgorithm()).compact();
+    }
+
+    private static SigningKey hmacKey(String keyId) {
+        Key key = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+        return new SigningKey(keyId, SignatureAlgorithm.HS512, key, key);
+    }
+
+    // 서명을 떼어낸 토큰 (헤더 확인용)
+    private static String withoutSignature(String token) {
+        return token.substring(0, token.lastIndexOf('.') + 1);
+    }
+
+    private Authentication authentication(String username, String... authorities) {
+        return new UsernamePasswordAuthenticationToken(username, "", AuthorityUtils.createAuthorityList(authorities));
+    }
+
+}
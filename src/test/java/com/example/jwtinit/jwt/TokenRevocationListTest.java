@@ -0,0 +1,68 @@
+package com.example.jwtinit.jwt;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TokenRevocationListTest {
+
+    private static final Instant NOW = Instant.parse("2023-07-01T00:00:00Z");
+
+    private static JwtAuthenticationToken token(String tokenId, String username, Instant issuedAt) {
+        return new JwtAuthenticationToken(tokenId, username, Collections.emptyList(), issuedAt, issuedAt.plusSeconds(60));
+    }
+
+    @Test
+    public void revokesSingleToken() {
+
+        TokenRevocationList revocationList = new TokenRevocationList(1_000, 0.01);
+        revocationList.revoke("jti-1", NOW.plusSeconds(60));
+
+        assertTrue(revocationList.isRevoked(token("jti-1", "user", NOW)));
+        assertFalse(revocationList.isRevoked(token("jti-2", "user", NOW)));
+    }
+
+    @Test
+    public void revokesTokensIssuedBeforeUserCutoff() {
+
+        TokenRevocationList revocationList = new TokenRevocationList(1_000, 0.01);
+        revocationList.revokeIssuedBefore("user", NOW.plusMillis(1_500));
+
+        assertTrue(revocationList.isRevoked(token("jti-1", "user", NOW)));
+        assertFalse(revocationList.isRevoked(token("jti-2", "user", NOW.plusSeconds(1)))); // 같은 초에 발행된 토큰은 유효
+        assertFalse(revocationList.isRevoked(token("jti-3", "admin", NOW)));
+    }
+
+    @Test
+    public void revokesAllTokensIssuedBeforeGlobalCutoff() {
+
+        TokenRevocationList revocationList = new TokenRevocationList(1_000, 0.01);
+        revocationList.revokeAllIssuedBefore(NOW.plusSeconds(10));
+
+        assertTrue(revocationList.isRevoked(token("jti-1", "user", NOW)));
+        assertTrue(revocationList.isRevoked(token("jti-2", "admin", NOW)));
+        assertFalse(revocationList.isRevoked(token("jti-3", "user", NOW.plusSeconds(10))));
+    }
+
+    @Test
+    public void pruneRemovesExpiredEntries() {
+
+        TokenRevocationList revocationList = new TokenRevocationList(1_000, 0.01);
+        revocationList.revoke("expired", NOW.minusSeconds(1));
+        revocationList.revoke("active", NOW.plusSeconds(60));
+        revocationList.revokeIssuedBefore("user", NOW.minusSeconds(120));
+
+        assertEquals(2, revocationList.prune(NOW, 60));
+
+        assertEquals(1, revocationList.size());
+        assertEquals(0, revocationList.userCutoffCount());
+        assertFalse(revocationList.isRevoked(token("expired", "admin", NOW.minusSeconds(61))));
+        assertTrue(revocationList.isRevoked(token("active", "admin", NOW)));
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.example.jwtinit.jwt;
+
+import org.junit.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class VerifiedTokenCacheTest {
+
+    private final Authentication authentication =
+            new UsernamePasswordAuthenticationToken("test", "", AuthorityUtils.createAuthorityList("ROLE_USER"));
+
+    @Test
+    public void returnsCachedAuthenticationUntilExpiry() {
+
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 10, 300);
+
+        assertNull(cache.get("token"));
+        cache.put("token", authentication, new Date(System.currentTimeMillis() + 60_000));
+
+        assertSame(authentication, cache.get("token"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void neverReturnsExpiredEntries() {
+
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 10, 300);
+
+        cache.put("token", authentication, new Date(System.currentTimeMillis() - 1));
+
+        assertNull(cache.get("token"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void evictsWhenFull() {
+
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 2, 300);
+
+        cache.put("a", authentication, null);
+        cache.put("b", authentication, null);
+        cache.put("c", authentication, null);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertSame(authentication, cache.get("c"));
+    }
+
+    @Test
+    public void evictsEarliestExpiryFirst() {
+
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 2, 300);
+        long now = System.currentTimeMillis();
+
+        cache.put("a", authentication, new Date(now + 60_000));
+        cache.put("b", authentication, new Date(now + 10_000));
+        cache.put("c", authentication, new Date(now + 120_000));
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b"));
+        assertSame(authentication, cache.get("a"));
+        assertSame(authentication, cache.get("c"));
+    }
+
+    @Test
+    public void sweepsOnlyWhenTenPercentOverCapacity() {
+
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 20, 300);
+
+        for (int i = 0; i < 21; i++) {
+            cache.put("token-" + i, authentication, null);
+        }
+
+        assertEquals(21, cache.size()); // 20 + 10% (2) 전까지는 정리하지 않음
+        assertEquals(0, cache.getEvictionCount());
+
+        cache.put("token-21", authentication, null);
+
+        assertEquals(20, cache.size());
+        assertEquals(2, cache.getEvictionCount());
+        assertNull(cache.get("token-0")); // 만료 시각이 같으면 먼저 저장된 엔트리부터
+        assertSame(authentication, cache.get("token-21"));
+    }
+
+    @Test
+    public void disabledCacheStoresNothing() {
+
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 10, 300);
+
+        cache.put("token", authentication, null);
+
+        assertNull(cache.get("token"));
+        assertEquals(0, cache.size());
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.example.jwtinit.metrics;
+
+import com.example.jwtinit.jwt.TokenFailureReason;
+import com.example.jwtinit.jwt.TokenRevocationList;
+import com.example.jwtinit.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class AuthMetricsTest {
+
+    @Test
+    public void registersEveryFailureReasonUpFront() {
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuthMetrics authMetrics = new AuthMetrics(meterRegistry, new VerifiedTokenCache(false, 10, 10), new TokenRevocationList(10, 0.01));
+
+        for (TokenFailureReason reason : TokenFailureReason.values()) {
+            assertNotNull(meterRegistry.find("auth.token.rejected").tag("reason", reason.name().toLowerCase()).counter());
+        }
+
+        authMetrics.tokenRejected(TokenFailureReason.EXPIRED);
+        authMetrics.tokenRejected(TokenFailureReason.EXPIRED);
+        authMetrics.recordVerification(1_000_000);
+        authMetrics.loginFailed();
+
+        assertEquals(2.0, meterRegistry.get("auth.token.rejected").tag("reason", "expired").counter().count(), 0);
+        assertEquals(1, meterRegistry.get("auth.token.verification").tag("cache", "miss").timer().count());
+        assertEquals(1.0, meterRegistry.get("auth.login").tag("result", "failure").counter().count(), 0);
+    }
+
+}
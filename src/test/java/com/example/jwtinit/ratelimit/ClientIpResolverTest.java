@@ -0,0 +1,36 @@
+package com.example.jwtinit.ratelimit;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver(new String[]{"10.0.0.0/8", "::1"});
+
+    @Test
+    public void ignoresForwardedForFromUntrustedClient() {
+        assertEquals("203.0.113.7", resolver.resolve("203.0.113.7", Collections.singletonList("198.51.100.1")));
+        assertEquals("203.0.113.7", new ClientIpResolver(new String[0]).resolve("203.0.113.7", null));
+    }
+
+    @Test
+    public void usesRightmostUntrustedHopBehindTrustedProxy() {
+
+        // 클라이언트가 넣은 왼쪽 값 (198.51.100.1) 은 무시
+        assertEquals("203.0.113.7", resolver.resolve("10.0.0.2", Collections.singletonList("198.51.100.1, 203.0.113.7, 10.0.0.1")));
+        assertEquals("203.0.113.7", resolver.resolve("10.0.0.2", Arrays.asList("198.51.100.1", "203.0.113.7")));
+        assertEquals("2001:db8::1", resolver.resolve("::1", Collections.singletonList("2001:db8::1")));
+    }
+
+    @Test
+    public void fallsBackToRemoteAddressForMalformedOrMissingHops() {
+        assertEquals("10.0.0.2", resolver.resolve("10.0.0.2", Collections.singletonList("not-an-ip.example.com")));
+        assertEquals("10.0.0.2", resolver.resolve("10.0.0.2", Collections.singletonList("10.0.0.1")));
+        assertEquals("10.0.0.2", resolver.resolve("10.0.0.2", Collections.emptyList()));
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.example.jwtinit.ratelimit;
+
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class InMemoryLoginAttemptStoreTest {
+
+    // 연속 3 회, 분당 60 회 (1 초에 1 회 회복), 연속 3 회 실패 시 10 초 잠금
+    private final RateLimitPolicy policy = new RateLimitPolicy(3, 60, 3, 10_000);
+
+    @Test
+    public void bucketRefillsOverTime() {
+
+        InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(100, 4);
+        long now = 1_000_000;
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, store.tryAcquire("ip:1.1.1.1", policy, now));
+        }
+
+        assertEquals(1000, store.tryAcquire("ip:1.1.1.1", policy, now));
+        assertEquals(0, store.tryAcquire("ip:2.2.2.2", policy, now)); // key 별로 독립
+        assertEquals(0, store.tryAcquire("ip:1.1.1.1", policy, now + 1000));
+    }
+
+    @Test
+    public void consecutiveFailuresLockOut() {
+
+        InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(100, 4);
+        long now = 1_000_000;
+
+        store.recordFailure("user:test", policy, now);
+        store.recordFailure("user:test", policy, now);
+        store.recordSuccess("user:test", now); // 연속 실패 초기화
+        store.recordFailure("user:test", policy, now);
+        store.recordFailure("user:test", policy, now);
+
+        assertEquals(0, store.tryAcquire("user:test", policy, now));
+
+        store.recordFailure("user:test", policy, now + 1000);
+
+        assertEquals(10_000, store.tryAcquire("user:test", policy, now + 1000));
+        assertEquals(0, store.tryAcquire("user:test", policy, now + 11_000));
+    }
+
+    @Test
+    public void staysWithinMaxEntries() {
+
+        InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(8, 2);
+        long now = 1_000_000;
+
+        for (int i = 0; i < 100; i++) {
+            store.recordFailure("ip:10.0.0." + i, policy, now);
+        }
+
+        assertTrue(store.size() <= 8);
+
+        // 버킷이 가득 차고 실패 기록이 사라진 항목은 삭제
+        store.evictIdle();
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void rateLimitedExceptionCarriesRetryAfter() {
+
+        LoginRateLimitedException exception = new LoginRateLimitedException(1500);
+
+        assertEquals(429, exception.getRawStatusCode());
+        assertEquals("2", exception.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+}
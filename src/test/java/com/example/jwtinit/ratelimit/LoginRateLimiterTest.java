@@ -0,0 +1,66 @@
+package com.example.jwtinit.ratelimit;
+
+import com.example.jwtinit.jwt.TokenRevocationList;
+import com.example.jwtinit.jwt.VerifiedTokenCache;
+import com.example.jwtinit.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.Assert.fail;
+
+public class LoginRateLimiterTest {
+
+    @Test
+    public void lockoutIsPerUsernameAndIp() {
+
+        // username: 연속 100 회 (분당 100 회), 연속 3 회 실패 시 잠금
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("login.rate-limit.username.capacity", "100")
+                .withProperty("login.rate-limit.username.refill-per-minute", "100")
+                .withProperty("login.rate-limit.username.lockout-threshold", "3");
+
+        LoginRateLimiter limiter = new LoginRateLimiter(new InMemoryLoginAttemptStore(100, 4),
+                new AuthMetrics(new SimpleMeterRegistry(), new VerifiedTokenCache(false, 10, 10), new TokenRevocationList(10, 0.01)),
+                environment);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.checkAllowed("203.0.113.7", "victim");
+            limiter.loginFailed("203.0.113.7", "victim");
+        }
+
+        try {
+            limiter.checkAllowed("203.0.113.7", "victim");
+            fail("실패를 반복한 IP 는 잠겨야 함");
+        } catch (LoginRateLimitedException expected) {
+        }
+
+        // 다른 IP 의 본인 로그인, 같은 IP 의 다른 계정은 잠기지 않음
+        limiter.checkAllowed("198.51.100.1", "victim");
+        limiter.checkAllowed("203.0.113.7", "other");
+    }
+
+    @Test
+    public void usernameAttemptsAreLimitedAcrossIps() {
+
+        // username: 연속 3 회, 잠금 없음
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("login.rate-limit.username.capacity", "3")
+                .withProperty("login.rate-limit.username.lockout-threshold", "0");
+
+        LoginRateLimiter limiter = new LoginRateLimiter(new InMemoryLoginAttemptStore(100, 4),
+                new AuthMetrics(new SimpleMeterRegistry(), new VerifiedTokenCache(false, 10, 10), new TokenRevocationList(10, 0.01)),
+                environment);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.checkAllowed("203.0.113." + i, "victim");
+        }
+
+        try {
+            limiter.checkAllowed("203.0.113.100", "victim");
+            fail("IP 를 바꿔도 username 의 분당 시도 수는 제한되어야 함");
+        } catch (LoginRateLimitedException expected) {
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.example.jwtinit.service;
+
+import com.example.jwtinit.repository.UserBulkRepository;
+import com.example.jwtinit.repository.UserBulkRepository.MemberRow;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@Transactional
+public class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private UserBulkRepository userBulkRepository;
+
+    @Autowired
+    private UsernameFilter usernameFilter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void rotateForDeactivatedUserRevokesFamily() {
+
+        userBulkRepository.insertMembers(Collections.singletonList(new MemberRow("deactivated-user", "{noop}password", "deactivated", false)));
+        usernameFilter.add(Collections.singleton("deactivated-user"));
+
+        String refreshToken = refreshTokenService.issue("deactivated-user");
+
+        InvalidRefreshTokenException e = assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(refreshToken));
+        assertEquals("사용할 수 없는 유저의 Refresh Token 입니다.", e.getMessage());
+
+        // 새 토큰은 발급되지 않고 기존 family 는 폐기
+        assertEquals(Integer.valueOf(1), jdbcTemplate.queryForObject(
+                "select count(*) from refresh_token where username = ?", Integer.class, "deactivated-user"));
+        assertEquals(Integer.valueOf(0), jdbcTemplate.queryForObject(
+                "select count(*) from refresh_token where username = ? and revoked = false", Integer.class, "deactivated-user"));
+    }
+
+    @Test
+    public void rotateForDeletedUserRevokesFamily() {
+
+        String refreshToken = refreshTokenService.issue("deleted-user");
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(refreshToken));
+
+        assertEquals(Integer.valueOf(0), jdbcTemplate.queryForObject(
+                "select count(*) from refresh_token where username = ? and revoked = false", Integer.class, "deleted-user"));
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.example.jwtinit.service;
+
+import com.example.jwtinit.crypto.PasswordHashingRejectedException;
+import com.example.jwtinit.dto.BulkSignupResultDto;
+import com.example.jwtinit.dto.BulkSignupResultDto.Status;
+import com.example.jwtinit.dto.UserDto;
+import com.example.jwtinit.repository.UserBulkRepository;
+import org.junit.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.Validation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class UserImportServiceTest {
+
+    private final StubTransactionManager transactionManager = new StubTransactionManager();
+    private final StubUserBulkRepository userBulkRepository = new StubUserBulkRepository("existing");
+
+    // 트랜잭션 안에서 호출되면 실패, "rejected" 비밀번호는 해싱 풀 거절
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            assertFalse("트랜잭션 안에서 해싱했습니다.", transactionManager.active);
+            if("rejected".contentEquals(rawPassword)) {
+                throw new PasswordHashingRejectedException("비밀번호 해싱 대기 큐가 가득 찼습니다.");
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hash:" + rawPassword);
+        }
+    };
+
+    private final UserImportService userImportService = new UserImportService(userBulkRepository, passwordEncoder
+            , Validation.buildDefaultValidatorFactory().getValidator(), new TransactionTemplate(transactionManager)
+            , new ConcurrentMapCacheManager(), new UsernameFilter(userBulkRepository, false, 1000, 0.01, 0), 2);
+
+    @Test
+    public void hashesOutsideTransactionAndRecordsRejectedRows() {
+
+        List<BulkSignupResultDto> results = userImportService.signupAll(Arrays.asList(
+                user("first", "password"),
+                user("existing", "password"),
+                user("second", "rejected"),
+                user("third", "password"),
+                user("first", "password")).iterator());
+
+        assertEquals(Arrays.asList(Status.CREATED, Status.DUPLICATE, Status.FAILED, Status.CREATED, Status.DUPLICATE), statuses(results));
+        assertEquals(Arrays.asList("first", "third"), userBulkRepository.inserted);
+    }
+
+    @Test
+    public void rechecksDuplicatesInsideTransaction() {
+
+        // 해싱하는 동안 다른 노드에서 가입된 경우
+        userBulkRepository.registerBeforeInsert = "racing";
+
+        List<BulkSignupResultDto> results = userImportService.signupAll(Arrays.asList(user("racing", "password")).iterator());
+
+        assertEquals(Arrays.asList(Status.DUPLICATE), statuses(results));
+        assertEquals(0, userBulkRepository.inserted.size());
+    }
+
+    @Test
+    public void retriesChunkWhenSignupCommitsBeforeInsert() {
+
+        // 트랜잭션 안 재확인 이후, batch insert 전에 다른 요청에서 가입된 경우 (unique 제약 위반 -> chunk 롤백)
+        userBulkRepository.conflictOnInsert = 1;
+        userBulkRepository.registerOnConflict = "racing";
+
+        List<BulkSignupResultDto> results = userImportService.signupAll(Arrays.asList(
+                user("racing", "password"),
+                user("other", "password")).iterator());
+
+        assertEquals(Arrays.asList(Status.DUPLICATE, Status.CREATED), statuses(results));
+        assertEquals(Arrays.asList("other"), userBulkRepository.inserted);
+    }
+
+    @Test
+    public void marksChunkFailedWhenConflictsPersist() {
+
+        // 재확인으로 찾을 수 없는 충돌이 계속되는 경우
+        userBulkRepository.conflictOnInsert = Integer.MAX_VALUE;
+
+        List<BulkSignupResultDto> results = userImportService.signupAll(Arrays.asList(
+                user("first", "password"),
+                user("second", "password"),
+                user("third", "password")).iterator());
+
+        // chunk (batch-size 2) 단위로 실패, 행 단위 결과는 유지
+        assertEquals(Arrays.asList(Status.FAILED, Status.FAILED, Status.FAILED), statuses(results));
+        assertEquals(0, userBulkRepository.inserted.size());
+        assertFalse(transactionManager.active);
+    }
+
+    private static List<Status> statuses(List<BulkSignupResultDto> results) {
+        List<Status> statuses = new ArrayList<>();
+        for (BulkSignupResultDto result : results) {
+            statuses.add(result.getStatus());
+        }
+        return statuses;
+    }
+
+    private static UserDto user(String username, String password) {
+        return UserDto.builder().username(username).nickname(username).password(password).build();
+    }
+
+    private static class StubTransactionManager implements PlatformTransactionManager {
+
+        private boolean active;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            active = true;
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            active = false;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            active = false;
+        }
+    }
+
+    private class StubUserBulkRepository extends UserBulkRepository {
+
+        private final Set<String> usernames;
+        private final List<String> inserted = new ArrayList<>();
+        private String registerBeforeInsert;
+        private int conflictOnInsert; // insertMembers 가 unique 제약 위반으로 실패할 횟수
+        private String registerOnConflict; // 실패 시 가입된 것으로 기록할 username (다음 재확인에서 보임)
+
+        private StubUserBulkRepository(String... usernames) {
+            super(null);
+            this.usernames = new HashSet<>(Arrays.asList(usernames));
+        }
+
+        @Override
+        public Set<String> findExistingUsernames(Collection<String> candidates) {
+
+            if(transactionManager.active && registerBeforeInsert != null) {
+                usernames.add(registerBeforeInsert);
+            }
+
+            Set<String> existing = new HashSet<>(candidates);
+            existing.retainAll(usernames);
+            return existing;
+        }
+
+        @Override
+        public void insertMembers(List<MemberRow> members) {
+
+            if(conflictOnInsert > 0) {
+                conflictOnInsert--;
+                if(registerOnConflict != null) {
+                    usernames.add(registerOnConflict);
+                }
+                throw new DuplicateKeyException("Unique index or primary key violation");
+            }
+
+            for (MemberRow member : members) {
+                usernames.add(member.getUsername());
+                inserted.add(member.getUsername());
+            }
+        }
+
+        @Override
+        public int insertAuthorities(Collection<String> usernames, String authorityName) {
+            return usernames.size();
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.example.jwtinit.service;
+
+import com.example.jwtinit.dto.UserDto;
+import com.example.jwtinit.repository.UserBulkRepository;
+import com.example.jwtinit.repository.UserBulkRepository.MemberRow;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@Transactional
+public class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserBulkRepository userBulkRepository;
+
+    @Test
+    public void signupRejectsMemberNotYetInUsernameFilter() {
+
+        // 다른 노드에서 가입한 것처럼 UsernameFilter 를 거치지 않고 저장
+        userBulkRepository.insertMembers(Collections.singletonList(new MemberRow("other-node-user", "{noop}password", "other", true)));
+
+        try {
+            userService.signup(UserDto.builder().username("other-node-user").password("password").nickname("other").build());
+            fail("이미 가입된 username 은 가입할 수 없어야 함");
+        } catch (RuntimeException e) {
+            assertEquals("이미 가입된 유저입니다.", e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.example.jwtinit.service;
+
+import com.example.jwtinit.repository.UserBulkRepository;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class UsernameFilterTest {
+
+    @Test
+    public void everythingMightExistBeforeRebuild() {
+
+        UsernameFilter usernameFilter = new UsernameFilter(new StubUserBulkRepository("admin"), true, 1000, 0.01, 1000);
+
+        assertTrue(usernameFilter.mightExist("unknown"));
+    }
+
+    @Test
+    public void rebuildLoadsMembers() {
+
+        UsernameFilter usernameFilter = new UsernameFilter(new StubUserBulkRepository("admin", "user"), true, 1000, 0.01, 1000);
+        usernameFilter.rebuild();
+
+        assertTrue(usernameFilter.mightExist("admin"));
+        assertTrue(usernameFilter.mightExist("Admin")); // 대소문자 구분 없음
+        assertFalse(usernameFilter.mightExist("unknown"));
+
+        usernameFilter.add(Collections.singleton("new-user"));
+        assertTrue(usernameFilter.mightExist("new-user"));
+    }
+
+    @Test
+    public void syncAddsMembersFromOtherNodes() {
+
+        StubUserBulkRepository repository = new StubUserBulkRepository("admin");
+        UsernameFilter usernameFilter = new UsernameFilter(repository, true, 1000, 0.01, 0);
+        usernameFilter.rebuild();
+
+        repository.usernames.add("other-node-user");
+        assertFalse(usernameFilter.mightExist("other-node-user"));
+
+        usernameFilter.sync();
+        assertTrue(usernameFilter.mightExist("other-node-user"));
+    }
+
+    @Test
+    public void knownAbsentChecksMembersNotYetSynced() {
+
+        StubUserBulkRepository repository = new StubUserBulkRepository("admin");
+        UsernameFilter usernameFilter = new UsernameFilter(repository, true, 1000, 0.01, 0);
+        usernameFilter.rebuild();
+
+        assertTrue(usernameFilter.isKnownAbsent("unknown"));
+        assertFalse(usernameFilter.isKnownAbsent("admin"));
+
+        // 다른 노드에서 가입, 이 노드는 아직 sync 전
+        repository.usernames.add("other-node-user");
+        assertFalse(usernameFilter.isKnownAbsent("other-node-user"));
+        assertTrue(usernameFilter.mightExist("other-node-user")); // 찾은 username 은 필터에 추가
+
+        int lookups = repository.tailLookups;
+        assertFalse(usernameFilter.isKnownAbsent("other-node-user"));
+        assertEquals(lookups, repository.tailLookups);
+    }
+
+    @Test
+    public void disabledFilterNeverShortCircuits() {
+
+        UsernameFilter usernameFilter = new UsernameFilter(new StubUserBulkRepository("admin"), false, 1000, 0.01, 1000);
+        usernameFilter.rebuild();
+
+        assertTrue(usernameFilter.mightExist("unknown"));
+    }
+
+    // member_id = 목록 순서 + 1
+    private static class StubUserBulkRepository extends UserBulkRepository {
+
+        private final List<String> usernames;
+        private int tailLookups;
+
+        private StubUserBulkRepository(String... usernames) {
+            super(null);
+            this.usernames = new ArrayList<>(Arrays.asList(usernames));
+        }
+
+        @Override
+        public long countMembers() {
+            return usernames.size();
+        }
+
+        @Override
+        public long forEachUsername(long afterMemberId, Consumer<String> consumer) {
+            for (int i = (int) afterMemberId; i < usernames.size(); i++) {
+                consumer.accept(usernames.get(i));
+            }
+            return Math.max(afterMemberId, usernames.size());
+        }
+
+        @Override
+        public boolean existsUsernameAfter(long afterMemberId, String username) {
+            tailLookups++;
+            return usernames.subList((int) Math.min(afterMemberId, usernames.size()), usernames.size()).contains(username);
+        }
+    }
+
+}
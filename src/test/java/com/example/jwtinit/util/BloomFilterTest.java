@@ -0,0 +1,44 @@
+package com.example.jwtinit.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BloomFilterTest {
+
+    @Test
+    public void containsEveryInsertedValue() {
+
+        BloomFilter bloomFilter = new BloomFilter(1_000, 0.01);
+
+        for (int i = 0; i < 1_000; i++) {
+            bloomFilter.put("token-" + i);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(bloomFilter.mightContain("token-" + i));
+        }
+    }
+
+    @Test
+    public void keepsFalsePositiveRateNearTarget() {
+
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("revoked-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if(bloomFilter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue("false positives: " + falsePositives, falsePositives < 300);
+        assertFalse(new BloomFilter(10, 0.01).mightContain("empty"));
+    }
+
+}